@@ -0,0 +1,99 @@
+package com.pc.kilojoulesrest.bench;
+
+import com.pc.kilojoulesrest.entity.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+
+/**
+ * Seeded synthetic data shaped like the csv catalog: values per 100 g with two decimals, two default portions per food.
+ */
+final class BenchData {
+
+    private BenchData() {
+    }
+
+    static List<Food> foods(int count, long seed) {
+        Random random = new Random(seed);
+        List<Food> foods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Food food = Food.builder()
+                    .id((long) i + 1)
+                    .name("Food " + i)
+                    .quantity(ONE_HUNDRED)
+                    .kiloJoules(decimal(random, 4000))
+                    .proteins(decimal(random, 90))
+                    .carbohydrates(decimal(random, 90))
+                    .fiber(decimal(random, 30))
+                    .sugar(decimal(random, 60))
+                    .fat(decimal(random, 90))
+                    .safa(decimal(random, 40))
+                    .tfa(decimal(random, 5))
+                    .cholesterol(decimal(random, 300))
+                    .sodium(decimal(random, 2000))
+                    .calcium(decimal(random, 1000))
+                    .phe(decimal(random, 5000))
+                    .build();
+            List<Portion> portions = new ArrayList<>();
+            portions.add(Portion.builder().id(2L * i + 1).portionName("1 g").portionSize(BigDecimal.ONE).food(food).build());
+            portions.add(Portion.builder().id(2L * i + 2).portionName("100 g").portionSize(ONE_HUNDRED).food(food).build());
+            food.setPortions(portions);
+            foods.add(food);
+        }
+        return foods;
+    }
+
+    static Meal meal(int foodCount, long seed) {
+        Random random = new Random(seed);
+        Meal meal = Meal.builder()
+                .id(1L)
+                .mealName("Benchmark meal")
+                .mealFoods(new HashSet<>())
+                .build();
+        long id = 1;
+        for (Food food : foods(foodCount, seed)) {
+            meal.getMealFoods().add(MealFood.builder()
+                    .id(id++)
+                    .meal(meal)
+                    .food(food)
+                    .quantity(BigDecimal.valueOf(10 + random.nextInt(400)))
+                    .build());
+        }
+        return meal;
+    }
+
+    static Set<JournalMealFood> journalMealFoods(int count, long seed) {
+        Random random = new Random(seed);
+        Set<JournalMealFood> jmfSet = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            JournalMealFood jmf = new JournalMealFood();
+            jmf.setId((long) i + 1);
+            jmf.setName("Journal meal food " + i);
+            jmf.setQuantity(BigDecimal.valueOf(10 + random.nextInt(400)));
+            jmf.setKiloJoules(decimal(random, 4000));
+            jmf.setProteins(decimal(random, 90));
+            jmf.setCarbohydrates(decimal(random, 90));
+            jmf.setFiber(decimal(random, 30));
+            jmf.setSugar(decimal(random, 60));
+            jmf.setFat(decimal(random, 90));
+            jmf.setSafa(decimal(random, 40));
+            jmf.setTfa(decimal(random, 5));
+            jmf.setCholesterol(decimal(random, 300));
+            jmf.setSodium(decimal(random, 2000));
+            jmf.setCalcium(decimal(random, 1000));
+            jmf.setPhe(decimal(random, 5000));
+            jmfSet.add(jmf);
+        }
+        return jmfSet;
+    }
+
+    private static BigDecimal decimal(Random random, int max) {
+        return BigDecimal.valueOf(random.nextInt(max * 100), 2);
+    }
+}
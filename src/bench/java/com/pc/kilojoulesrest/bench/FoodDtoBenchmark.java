@@ -0,0 +1,49 @@
+package com.pc.kilojoulesrest.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.model.FoodDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to DTO mapping and JSON writing of a search result page, the BigDecimal fields go through DecimalJsonSerializer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FoodDtoBenchmark {
+
+    @Param({"25", "250"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Food> foods;
+    private List<FoodDto> foodDtos;
+
+    @Setup
+    public void setUp() {
+        foods = BenchData.foods(pageSize, 7);
+        foodDtos = foods.stream().map(FoodDto::fromEntity).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void fromEntity(Blackhole blackhole) {
+        for (Food food : foods) {
+            blackhole.consume(FoodDto.fromEntity(food));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(foodDtos);
+    }
+}
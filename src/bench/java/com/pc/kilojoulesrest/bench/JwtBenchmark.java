@@ -0,0 +1,72 @@
+package com.pc.kilojoulesrest.bench;
+
+import com.pc.kilojoulesrest.config.UserInfoUserDetails;
+import com.pc.kilojoulesrest.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token handling of JwtAuthFilter: the previous code built a new key and parser and parsed
+ * the token three times (username, expiration, username again), the current code parses once with a shared parser.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private final JwtService jwtService = new JwtService();
+    private UserInfoUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", "1");
+        claims.put("role", "ROLE_USER");
+        token = Jwts.builder()
+                .setClaims(claims).setSubject("benchUser")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + JwtService.accessTokenExpirationTime))
+                .signWith(newKey(), SignatureAlgorithm.HS256).compact();
+        userDetails = new UserInfoUserDetails(1L, "benchUser", "ROLE_USER");
+    }
+
+    @Benchmark
+    public boolean parsePerClaim() {
+        String username = parseWithNewParser().getSubject();
+        if (parseWithNewParser().getExpiration().before(new Date())) return false;
+        return username.equals(userDetails.getUsername())
+                && parseWithNewParser().getSubject().equals(userDetails.getUsername());
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        Claims claims = jwtService.extractAllClaims(token);
+        return jwtService.validateToken(claims, userDetails);
+    }
+
+    private Claims parseWithNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(newKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static Key newKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtService.SECRET));
+    }
+}
@@ -0,0 +1,52 @@
+package com.pc.kilojoulesrest.bench;
+
+import com.pc.kilojoulesrest.entity.JournalMeal;
+import com.pc.kilojoulesrest.entity.JournalMealFood;
+import com.pc.kilojoulesrest.entity.Meal;
+import com.pc.kilojoulesrest.model.MealDTO;
+import com.pc.kilojoulesrest.service.JournalMealServiceImpl;
+import com.pc.kilojoulesrest.service.MealServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meal DTO assembly and journal meal totals, the services are used without their repositories.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MealBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int foodsPerMeal;
+
+    private MealServiceImpl mealService;
+    private JournalMealServiceImpl journalMealService;
+    private Meal meal;
+    private Set<JournalMealFood> journalMealFoods;
+
+    @Setup
+    public void setUp() {
+        mealService = new MealServiceImpl(null, null, null);
+        journalMealService = new JournalMealServiceImpl(null, null, null);
+        meal = BenchData.meal(foodsPerMeal, 42);
+        journalMealFoods = BenchData.journalMealFoods(foodsPerMeal, 42);
+    }
+
+    @Benchmark
+    public MealDTO calculateAndReturnMealDto() {
+        return mealService.calculateAndReturnMealDto(meal);
+    }
+
+    @Benchmark
+    public JournalMeal calculateAndSetTotalFieldsFromSet() {
+        JournalMeal journalMeal = new JournalMeal();
+        journalMealService.calculateAndSetTotalFieldsFromSet(journalMeal, journalMealFoods);
+        return journalMeal;
+    }
+}
@@ -1,7 +1,6 @@
 package com.pc.kilojoulesrest.bootstrap;
 
 import com.pc.kilojoulesrest.entity.*;
-import com.pc.kilojoulesrest.model.FoodCSVRecord;
 import com.pc.kilojoulesrest.model.JournalMealFormDTO;
 import com.pc.kilojoulesrest.model.MealFormDTO;
 import com.pc.kilojoulesrest.repository.FoodRepository;
@@ -11,16 +10,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ResourceUtils;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
-import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 
 @Profile("!test")
 @Component("bootstrapData")
@@ -28,17 +28,17 @@ public class BootstrapData implements CommandLineRunner {
 
     private final UserService userService;
     private final FoodRepository foodRepository;
-    private final FoodCsvService foodCsvService;
+    private final FoodImportService foodImportService;
     private final FoodService foodService;
     private final PortionService portionService;
     private final MealService mealService;
     private final JournalService journalService;
     private final JournalMealService journalMealService;
 
-    public BootstrapData(UserService userService, FoodRepository foodRepository, FoodCsvService foodCsvService, FoodService foodService, PortionService portionService, MealService mealService, JournalService journalService, JournalMealService journalMealService) {
+    public BootstrapData(UserService userService, FoodRepository foodRepository, FoodImportService foodImportService, FoodService foodService, PortionService portionService, MealService mealService, JournalService journalService, JournalMealService journalMealService) {
         this.userService = userService;
         this.foodRepository = foodRepository;
-        this.foodCsvService = foodCsvService;
+        this.foodImportService = foodImportService;
         this.foodService = foodService;
         this.portionService = portionService;
         this.mealService = mealService;
@@ -54,7 +54,6 @@ public class BootstrapData implements CommandLineRunner {
     public void run(String... args) throws Exception {
         populateUsers();
         loadCsvData();
-        populatePortions();
         populateIndividualPortions();
         populateIndividualMeals();
         populateJournalWithFoods();
@@ -82,60 +81,14 @@ public class BootstrapData implements CommandLineRunner {
         userService.saveUser(noDataUser);
     }
 
-    private void loadCsvData() throws FileNotFoundException {
+    private void loadCsvData() throws IOException {
         if (foodRepository.count() < 10){
-            File file = ResourceUtils.getFile("classpath:csvdata/potraviny.csv");
-
-            List<FoodCSVRecord> recs = foodCsvService.convertCSV(file);
-
-            recs.forEach(foodCSVRecord -> {
-
-                foodRepository.save(Food.builder()
-                                .name(foodCSVRecord.getName())
-                                .quantity(foodCSVRecord.getQuantity() != null ? foodCSVRecord.getQuantity() : BigDecimal.ZERO)
-                                .kiloJoules(foodCSVRecord.getKiloJoules() != null ? foodCSVRecord.getKiloJoules() : BigDecimal.ZERO)
-                                .proteins(foodCSVRecord.getProteins() != null ? foodCSVRecord.getProteins() : BigDecimal.ZERO)
-                                .carbohydrates(foodCSVRecord.getCarbohydrates() != null ? foodCSVRecord.getCarbohydrates() : BigDecimal.ZERO)
-                                .fiber(foodCSVRecord.getFiber() != null ? foodCSVRecord.getFiber() : BigDecimal.ZERO)
-                                .sugar(foodCSVRecord.getSugar() != null ? foodCSVRecord.getSugar() : BigDecimal.ZERO)
-                                .fat(foodCSVRecord.getFat() != null ? foodCSVRecord.getFat() : BigDecimal.ZERO)
-                                .safa(foodCSVRecord.getSafa() != null ? foodCSVRecord.getSafa() : BigDecimal.ZERO)
-                                .tfa(foodCSVRecord.getTfa() != null ? foodCSVRecord.getTfa() : BigDecimal.ZERO)
-                                .cholesterol(foodCSVRecord.getCholesterol() != null ? foodCSVRecord.getCholesterol() : BigDecimal.ZERO)
-                                .sodium(foodCSVRecord.getSodium() != null ? foodCSVRecord.getSodium() : BigDecimal.ZERO)
-                                .calcium(foodCSVRecord.getCalcium() != null ? foodCSVRecord.getCalcium() : BigDecimal.ZERO)
-                                .phe(foodCSVRecord.getPhe() != null ? foodCSVRecord.getPhe() : BigDecimal.ZERO)
-                                .createdAt(foodCSVRecord.getCreatedAt())
-                        .build());
-            });
+            try (Reader reader = new InputStreamReader(new ClassPathResource("csvdata/potraviny.csv").getInputStream(), StandardCharsets.UTF_8)) {
+                foodImportService.importFoods(reader);
+            }
         }
     }
 
-    private void populatePortions() {
-        List<Food> foodList = foodService.fetchAllFoods();
-        foodList.forEach(food -> {
-            List<Portion> portions = food.getPortions();
-            Portion portion = Portion.builder()
-                    .portionName("1 g")
-                    .portionSize(BigDecimal.ONE)
-                    .food(food)
-                    .build();
-            portions.add(portion);
-            food.setPortions(portions);
-            foodService.saveFood(food);
-        });
-        foodList.forEach((Food food) -> {
-            List<Portion> portions = food.getPortions();
-            Portion portion = Portion.builder()
-                    .portionName("100 g")
-                    .portionSize(ONE_HUNDRED)
-                    .food(food)
-                    .build();
-            portions.add(portion);
-            food.setPortions(portions);
-            foodService.saveFood(food);
-        });
-    }
     private void populateIndividualPortions() {
         Food food1 = foodService.getFoodById(1L); // omacka Kaiser bolognese
         Portion portion1 = Portion.builder()
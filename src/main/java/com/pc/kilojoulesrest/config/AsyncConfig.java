@@ -0,0 +1,58 @@
+package com.pc.kilojoulesrest.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // true with the virtual profile, the executors below then run their tasks on virtual threads
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * A single worker with a bounded queue, a full queue rejects the import instead of blocking the upload.
+     * With virtual threads the pool keeps its size and queue, only its thread is created as a virtual one.
+     */
+    @Bean
+    TaskExecutor foodImportExecutor(@Value("${food.import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("food-import-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("food-import-").getVirtualThreadFactory());
+        }
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the independent queries of the statistics dashboard side by side. Bounded below the connection pool
+     * size, so a burst of dashboard requests cannot take every connection. With virtual threads every query gets
+     * a new virtual thread and the same bound is kept as a concurrency limit.
+     */
+    @Bean
+    TaskExecutor statisticsExecutor(@Value("${statistics.executor.pool-size:6}") int poolSize,
+                                    @Value("${statistics.executor.queue-capacity:500}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("statistics-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("statistics-");
+        executor.initialize();
+        return executor;
+    }
+}
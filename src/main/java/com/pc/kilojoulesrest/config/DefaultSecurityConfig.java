@@ -42,6 +42,7 @@ public class DefaultSecurityConfig {
                         .requestMatchers(mvcMatcherBuilder.pattern("/api/register")).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/api/login")).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/api/isRunning")).hasRole("ADMIN")
+                        .requestMatchers(mvcMatcherBuilder.pattern("/api/admin/**")).hasRole("ADMIN")
                         .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.GET,"/api/user/profile")).hasRole("USER")
                         .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.POST,"/api/user/profile")).hasAnyRole("USER","ADMIN")
                         .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.PUT,"/api/user/profile")).hasRole("USER")
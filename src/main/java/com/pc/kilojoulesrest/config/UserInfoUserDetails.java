@@ -27,6 +27,14 @@ public class UserInfoUserDetails implements ExtendedUserDetails {
                 .collect(Collectors.toList());
     }
 
+    public UserInfoUserDetails(Long userId, String username, String roles) {
+        this.userId = userId;
+        this.name = username;
+        this.authorities = Arrays.stream(roles.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -0,0 +1,28 @@
+package com.pc.kilojoulesrest.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Replaces the open-in-view interceptor Spring Boot registers for every request. The statistics endpoints are
+     * left out: the dashboard request thread waits while its queries run on the statistics executor, and an entity
+     * manager bound to the request would hold that thread's connection the whole time. A burst of dashboards could
+     * then take every pooled connection and leave the executor waiting for one.
+     */
+    @Bean
+    OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns("/api/statistics/**");
+    }
+}
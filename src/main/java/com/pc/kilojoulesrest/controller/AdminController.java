@@ -0,0 +1,55 @@
+package com.pc.kilojoulesrest.controller;
+
+import com.pc.kilojoulesrest.model.CacheStatsDTO;
+import com.pc.kilojoulesrest.model.FoodImportJobDTO;
+import com.pc.kilojoulesrest.model.FoodImportMode;
+import com.pc.kilojoulesrest.service.FoodCatalogCache;
+import com.pc.kilojoulesrest.service.FoodImportJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final FoodCatalogCache foodCatalogCache;
+    private final FoodImportJobService foodImportJobService;
+
+    @Autowired
+    public AdminController(FoodCatalogCache foodCatalogCache, FoodImportJobService foodImportJobService) {
+        this.foodCatalogCache = foodCatalogCache;
+        this.foodImportJobService = foodImportJobService;
+    }
+
+    @GetMapping("/cache/food")
+    public ResponseEntity<CacheStatsDTO> fetchFoodCacheStats() {
+        return ResponseEntity.ok(foodCatalogCache.stats());
+    }
+
+    @DeleteMapping("/cache/food")
+    public ResponseEntity<?> clearFoodCache() {
+        foodCatalogCache.evictAll();
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @PostMapping(value = "/food/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FoodImportJobDTO> importFoods(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam(name = "mode", defaultValue = "INSERT") FoodImportMode mode) throws IOException {
+        FoodImportJobDTO job = foodImportJobService.submitImport(file, mode);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Location", "/api/admin/food/import/" + job.getJobId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).headers(headers).body(job);
+    }
+
+    @GetMapping("/food/import/{jobId}")
+    public ResponseEntity<FoodImportJobDTO> fetchImportJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(foodImportJobService.fetchJob(jobId));
+    }
+}
@@ -104,8 +104,9 @@ public class FoodController {
 
     @GetMapping("/food/search")
     public ResponseEntity<?> searchFood(@RequestParam(name = "query") String query,
+                                        @RequestParam(name = "prefix", defaultValue = "false") boolean prefix,
                                         @PageableDefault(size = 25) Pageable pageable) {
-            Page<Food> foods = foodService.searchFood(query, pageable);
+            Page<Food> foods = prefix ? foodService.searchFoodByPrefix(query, pageable) : foodService.searchFood(query, pageable);
             if (foods.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorDTO("No records found."));
             }
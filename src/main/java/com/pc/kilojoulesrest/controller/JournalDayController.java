@@ -0,0 +1,31 @@
+package com.pc.kilojoulesrest.controller;
+
+import com.pc.kilojoulesrest.config.ExtendedUserDetails;
+import com.pc.kilojoulesrest.model.JournalEntryWithTotalsDto;
+import com.pc.kilojoulesrest.service.JournalDayService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/journal")
+public class JournalDayController {
+
+    private final JournalDayService journalDayService;
+
+    @Autowired
+    public JournalDayController(JournalDayService journalDayService) {
+        this.journalDayService = journalDayService;
+    }
+
+    @GetMapping("/day/{date}")
+    public ResponseEntity<?> fetchJournalDay(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                             @AuthenticationPrincipal ExtendedUserDetails userDetails) {
+        JournalEntryWithTotalsDto day = journalDayService.fetchJournalDay(userDetails.getUserId(), date);
+        return ResponseEntity.ok(day);
+    }
+}
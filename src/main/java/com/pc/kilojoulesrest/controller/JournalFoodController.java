@@ -1,7 +1,10 @@
 package com.pc.kilojoulesrest.controller;
 
+import com.pc.kilojoulesrest.config.ExtendedUserDetails;
 import com.pc.kilojoulesrest.entity.*;
 import com.pc.kilojoulesrest.model.ErrorDTO;
+import com.pc.kilojoulesrest.model.JournalBatchRequestDTO;
+import com.pc.kilojoulesrest.model.JournalBatchResultDTO;
 import com.pc.kilojoulesrest.model.JournalEntryFoodDto;
 import com.pc.kilojoulesrest.model.JournalFoodFormDTO;
 import com.pc.kilojoulesrest.model.JournalMealFoodDto;
@@ -18,53 +21,86 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/journal")
 public class JournalFoodController {
 
     private final JournalFoodService journalFoodService;
-    private final JournalFoodPortionService journalFoodPortionService;
     private final FoodService foodService;
     private final JournalService journalService;
     private final UserService userService;
+    private final JournalBatchService journalBatchService;
+    private final IdempotencyCache idempotencyCache;
 
     @Autowired
-    public JournalFoodController(JournalFoodService journalFoodService, JournalFoodPortionService journalFoodPortionService, FoodService foodService, JournalService journalService, UserService userService) {
+    public JournalFoodController(JournalFoodService journalFoodService, FoodService foodService, JournalService journalService, UserService userService, JournalBatchService journalBatchService, IdempotencyCache idempotencyCache) {
         this.journalFoodService = journalFoodService;
-        this.journalFoodPortionService = journalFoodPortionService;
         this.foodService = foodService;
         this.journalService = journalService;
         this.userService = userService;
+        this.journalBatchService = journalBatchService;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @PostMapping("/food/{foodId}")
     public ResponseEntity<?> addFoodToJournal(@PathVariable("foodId") Long foodId,
                                               @Valid @RequestBody JournalFoodFormDTO dto, BindingResult bindingResult,
-                                              @AuthenticationPrincipal UserDetails userDetails) {
+                                              @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                              @AuthenticationPrincipal ExtendedUserDetails userDetails) {
 
         if (bindingResult.hasErrors()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(journalFoodService.buildErrorResponseForJournalFood(bindingResult));
         }
 
-        Food food = foodService.getFoodById(foodId);
-        User user = userService.fetchUserByUsername(userDetails.getUsername());
-        BigDecimal quantity = dto.getQuantity();
-        String foodName = dto.getFoodName();
-        String mealType = dto.getMealType();
-        LocalDate date = LocalDate.parse(dto.getConsumedAt());
+        return idempotencyCache.execute(userDetails.getUserId(), idempotencyKey, List.of(foodId, dto), () -> {
+            Food food = foodService.getFoodSnapshotById(foodId);
+            User user = userService.fetchUserByUsername(userDetails.getUsername());
+            BigDecimal quantity = dto.getQuantity();
+            String foodName = dto.getFoodName();
+            String mealType = dto.getMealType();
+            LocalDate date = LocalDate.parse(dto.getConsumedAt());
 
-        Journal journal = journalService.addFoodToJournal(food, quantity, date, mealType, foodName, user);
-        JournalEntryFoodDto journalEntryFoodDto = JournalEntryFoodDto.fromEntity(journal, journal.getJournalFood());
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Location", "/api/journal/" + journal.getId());
+            Journal journal = journalService.addFoodToJournal(food, quantity, date, mealType, foodName, user);
+            JournalEntryFoodDto journalEntryFoodDto = JournalEntryFoodDto.fromEntity(journal, journal.getJournalFood());
+            HttpHeaders headers = new HttpHeaders();
+            headers.add("Location", "/api/journal/" + journal.getId());
 
-        return ResponseEntity.status(HttpStatus.CREATED).headers(headers).body(journalEntryFoodDto);
+            return ResponseEntity.status(HttpStatus.CREATED).headers(headers).body(journalEntryFoodDto);
 
-//        RecordNotFoundException
-//        DataAccessException
+//            RecordNotFoundException
+//            DataAccessException
+        });
+
+    }
+
+    /**
+     * Adds many food and meal entries in one transaction, e.g. when a client syncs after being offline.
+     * Answers 201 when every entry was created, 207 when only some were and 400 when none were; the body lists
+     * the outcome of each entry in request order. A retry with the same {@code Idempotency-Key} gets the first
+     * response back.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> addEntriesToJournal(@Valid @RequestBody JournalBatchRequestDTO dto, BindingResult bindingResult,
+                                                 @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                                 @AuthenticationPrincipal ExtendedUserDetails userDetails) {
+
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(journalFoodService.buildErrorResponseForJournalFood(bindingResult));
+        }
+
+        return idempotencyCache.execute(userDetails.getUserId(), idempotencyKey, dto, () -> {
+            User user = userService.fetchUserByUsername(userDetails.getUsername());
+            List<JournalBatchResultDTO> results = journalBatchService.addEntriesToJournal(dto.getEntries(), user);
+            long created = results.stream().filter(result -> result.getJournalId() != null).count();
+            HttpStatus status = created == results.size() ? HttpStatus.CREATED
+                    : created == 0 ? HttpStatus.BAD_REQUEST : HttpStatus.MULTI_STATUS;
 
+            return ResponseEntity.status(status).body(results);
+        });
     }
 
     @PutMapping("/{journalId}/food/{journalFoodId}")
@@ -173,10 +173,11 @@ public class MealController {
 
     @GetMapping("/meal/search")
     public ResponseEntity<?> searchMeal(@RequestParam(name = "query") String query,
+                                        @RequestParam(name = "prefix", defaultValue = "false") boolean prefix,
                                         @AuthenticationPrincipal UserDetails userDetails,
                                         @PageableDefault(size = 25) Pageable pageable) {
         User user = userService.fetchUserByUsername(userDetails.getUsername());
-        Page<Meal> meals = mealService.searchMeal(user, query, pageable);
+        Page<Meal> meals = prefix ? mealService.searchMealByPrefix(user, query, pageable) : mealService.searchMeal(user, query, pageable);
         if (meals.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorDTO("No records found."));
         }
@@ -1,5 +1,7 @@
 package com.pc.kilojoulesrest.controller;
 
+import com.pc.kilojoulesrest.exception.IdempotencyKeyInProgressException;
+import com.pc.kilojoulesrest.exception.IdempotencyKeyReusedException;
 import com.pc.kilojoulesrest.exception.RecordCountException;
 import com.pc.kilojoulesrest.exception.RecordNameExistsException;
 import com.pc.kilojoulesrest.exception.RecordNotDeletableException;
@@ -17,11 +19,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @ControllerAdvice
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(RestExceptionHandler.class);
 
+    private static final int BUSY_RETRY_AFTER_SECONDS = 1;
+
     @ExceptionHandler(RecordNotFoundException.class)
     protected ResponseEntity<Object> handleRecordNotFoundException(RecordNotFoundException ex, WebRequest request) {
         log.error("Record not found", ex);
@@ -40,6 +46,26 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
                 request);
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    protected ResponseEntity<Object> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex, WebRequest request) {
+        log.error("Idempotency key reused", ex);
+        return handleExceptionInternal(ex,
+                new ErrorDTO(ex.getMessage()),
+                new HttpHeaders(), HttpStatus.UNPROCESSABLE_ENTITY,
+                request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    protected ResponseEntity<Object> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException ex, WebRequest request) {
+        log.warn("Idempotency key still in progress: {}", ex.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        return handleExceptionInternal(ex,
+                new ErrorDTO(ex.getMessage()),
+                headers, HttpStatus.CONFLICT,
+                request);
+    }
+
     @ExceptionHandler(RecordCountException.class)
     protected ResponseEntity<Object> handleRecordCountException(RecordCountException ex, WebRequest request) {
         log.error("Record count exceeded", ex);
@@ -78,6 +104,20 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
                 request);
     }
 
+    /**
+     * A bounded executor (statistics queries, food imports) is full. The request can be repeated shortly.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    protected ResponseEntity<Object> handleRejectedExecutionException(RejectedExecutionException ex, WebRequest request) {
+        log.warn("Executor busy: {}", ex.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(BUSY_RETRY_AFTER_SECONDS));
+        return handleExceptionInternal(ex,
+                new ErrorDTO("The server is busy, please try again later."),
+                headers, HttpStatus.SERVICE_UNAVAILABLE,
+                request);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     protected ResponseEntity<Object> handleBadCredentialsException(
             BadCredentialsException ex,
@@ -0,0 +1,108 @@
+package com.pc.kilojoulesrest.controller;
+
+import com.pc.kilojoulesrest.config.ExtendedUserDetails;
+import com.pc.kilojoulesrest.entity.Nutrient;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+import com.pc.kilojoulesrest.model.StatisticDashboardDTO;
+import com.pc.kilojoulesrest.model.TopTenDTO;
+import com.pc.kilojoulesrest.service.StatisticService;
+import com.pc.kilojoulesrest.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Statistics over the journal of the authenticated user. Every response carries an ETag derived from the journal
+ * entries of the requested range; a matching If-None-Match is answered with 304 before any statistic is computed.
+ */
+@RestController
+@RequestMapping("/api/statistics")
+public class StatisticController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final StatisticService statisticService;
+    private final UserService userService;
+
+    @Autowired
+    public StatisticController(StatisticService statisticService, UserService userService) {
+        this.statisticService = statisticService;
+        this.userService = userService;
+    }
+
+    @GetMapping(value = "/totals", params = "date")
+    public ResponseEntity<JournalTotalsDTO> fetchTotalsByDate(@RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                              @AuthenticationPrincipal ExtendedUserDetails userDetails,
+                                                              WebRequest request) {
+        return respond(userDetails, date, date, request,
+                user -> statisticService.calculateJournalTotalsByDate(user, date));
+    }
+
+    @GetMapping(value = "/totals", params = {"startDate", "endDate"})
+    public ResponseEntity<JournalTotalsDTO> fetchTotalsByPeriod(@RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                                @AuthenticationPrincipal ExtendedUserDetails userDetails,
+                                                                WebRequest request) {
+        return respond(userDetails, startDate, endDate, request,
+                user -> statisticService.calculateJournalTotalsByPeriod(user, startDate, endDate));
+    }
+
+    @GetMapping("/top/{nutrient}")
+    public ResponseEntity<List<TopTenDTO>> fetchTopTen(@PathVariable("nutrient") Nutrient nutrient,
+                                                       @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                       @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                       @RequestParam(name = "count", defaultValue = "false") boolean count,
+                                                       @AuthenticationPrincipal ExtendedUserDetails userDetails,
+                                                       WebRequest request) {
+        return respond(userDetails, startDate, endDate, request,
+                user -> topTen(user, nutrient, startDate, endDate, count));
+    }
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<StatisticDashboardDTO> fetchDashboard(@RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                                @AuthenticationPrincipal ExtendedUserDetails userDetails,
+                                                                WebRequest request) {
+        return respond(userDetails, startDate, endDate, request,
+                user -> statisticService.fetchDashboard(user, startDate, endDate));
+    }
+
+    private <T> ResponseEntity<T> respond(ExtendedUserDetails userDetails, LocalDate startDate, LocalDate endDate,
+                                          WebRequest request, Function<User, T> statistic) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date.");
+        }
+        String eTag = statisticService.calculateETag(userDetails.getUserId(), startDate, endDate);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        User user = userService.fetchUserByUsername(userDetails.getUsername());
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(statistic.apply(user));
+    }
+
+    private List<TopTenDTO> topTen(User user, Nutrient nutrient, LocalDate startDate, LocalDate endDate, boolean count) {
+        return switch (nutrient) {
+            case KILOJOULES -> count ? statisticService.getTop10ByKiloJoulesCount(user, startDate, endDate)
+                    : statisticService.getTop10ByKiloJoules(user, startDate, endDate);
+            case PROTEINS -> count ? statisticService.getTop10ByProteinsCount(user, startDate, endDate)
+                    : statisticService.getTop10ByProteins(user, startDate, endDate);
+            case CARBOHYDRATES -> count ? statisticService.getTop10ByCarbohydratesCount(user, startDate, endDate)
+                    : statisticService.getTop10ByCarbohydrates(user, startDate, endDate);
+            case FIBER -> count ? statisticService.getTop10ByFiberCount(user, startDate, endDate)
+                    : statisticService.getTop10ByFiber(user, startDate, endDate);
+            case FAT -> count ? statisticService.getTop10ByFatCount(user, startDate, endDate)
+                    : statisticService.getTop10ByFat(user, startDate, endDate);
+            case QUANTITY -> throw new IllegalArgumentException("Top ten is not available for quantity.");
+        };
+    }
+}
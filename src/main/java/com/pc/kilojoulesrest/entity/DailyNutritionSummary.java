@@ -0,0 +1,72 @@
+package com.pc.kilojoulesrest.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per user, day and meal type rollup of the journal totals, kept up to date with delta updates on every journal write.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "daily_nutrition_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_summary_user_day_meal_type", columnNames = {"user_id", "consumed_at", "meal_type"}))
+public class DailyNutritionSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate consumedAt;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private MealType mealType;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal quantity = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal kiloJoules = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal proteins = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal carbohydrates = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal fiber = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal fat = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int entryCount = 0;
+
+    /**
+     * Bumped on every write to the row, also when the totals do not change, e.g. a renamed journal food.
+     * Statistics ETags of a range are derived from the versions of its rows.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private long version = 0;
+}
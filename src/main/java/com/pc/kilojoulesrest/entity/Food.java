@@ -1,8 +1,10 @@
 package com.pc.kilojoulesrest.entity;
 
+import com.pc.kilojoulesrest.util.StringNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -21,17 +23,22 @@ import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 @Builder
 
 @Entity
-@Table(name = "foods")
+@BatchSize(size = 50)
+@Table(name = "foods", indexes = @Index(name = "idx_foods_name_normalized", columnList = "name_normalized"))
 public class Food {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "foods_seq")
+    @SequenceGenerator(name = "foods_seq", sequenceName = "foods_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
     @Size(max = 255)
     private String name;
 
+    @Size(max = 255)
+    private String nameNormalized;
+
     @Builder.Default
     @NotNull
     @DecimalMin(value = "0.0", message = "Quantity must be greater than or equal to zero")
@@ -104,8 +111,8 @@ public class Food {
 
 
     @Builder.Default
-//    @OneToMany(mappedBy="food", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
-    @OneToMany(mappedBy="food", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
+    @OneToMany(mappedBy="food", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Portion> portions = new ArrayList<>();
 
     @Override
@@ -116,7 +123,12 @@ public class Food {
                 ", quantity=" + quantity +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
-                ", portions=" + portions +
                 '}';
     }
+
+    @PrePersist
+    @PreUpdate
+    private void normalizeName() {
+        this.nameNormalized = StringNormalizer.normalize(name);
+    }
 }
@@ -1,5 +1,6 @@
 package com.pc.kilojoulesrest.entity;
 
+import com.pc.kilojoulesrest.service.JournalChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -16,10 +17,13 @@ import java.util.Date;
 @Getter
 @Setter
 @Entity
+@EntityListeners(JournalChangeListener.class)
+@Table(indexes = @Index(name = "idx_journal_user_consumed_at", columnList = "user_id, consumed_at, journal_food_id, journal_meal_id"))
 public class Journal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_seq")
+    @SequenceGenerator(name = "journal_seq", sequenceName = "journal_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Consumption date cannot be null")
@@ -48,4 +52,13 @@ public class Journal {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * Day and meal type the entry is currently counted under in the daily nutrition summary, null for a new entry.
+     */
+    @Transient
+    private LocalDate countedConsumedAt;
+
+    @Transient
+    private MealType countedMealType;
+
 }
@@ -14,4 +14,10 @@ public interface JournalEntry {
     BigDecimal getFiber();
     BigDecimal getFat();
 
+    /**
+     * Totals this entry is currently counted with in the daily nutrition summary, null until it is loaded or counted.
+     */
+    JournalEntryTotals getCountedTotals();
+    void setCountedTotals(JournalEntryTotals countedTotals);
+
 }
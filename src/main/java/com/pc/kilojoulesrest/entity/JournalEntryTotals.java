@@ -0,0 +1,37 @@
+package com.pc.kilojoulesrest.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * The totals of a journal food or meal that go into the daily nutrition summary.
+ */
+public record JournalEntryTotals(BigDecimal quantity, BigDecimal kiloJoules, BigDecimal proteins,
+                                 BigDecimal carbohydrates, BigDecimal fiber, BigDecimal fat) {
+
+    public static final JournalEntryTotals ZERO = new JournalEntryTotals(BigDecimal.ZERO, BigDecimal.ZERO,
+            BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+    public static JournalEntryTotals of(JournalEntry entry) {
+        if (entry == null) {
+            return ZERO;
+        }
+        return new JournalEntryTotals(orZero(entry.getQuantity()), orZero(entry.getKiloJoules()),
+                orZero(entry.getProteins()), orZero(entry.getCarbohydrates()), orZero(entry.getFiber()),
+                orZero(entry.getFat()));
+    }
+
+    public JournalEntryTotals add(JournalEntryTotals other) {
+        return new JournalEntryTotals(quantity.add(other.quantity), kiloJoules.add(other.kiloJoules),
+                proteins.add(other.proteins), carbohydrates.add(other.carbohydrates), fiber.add(other.fiber),
+                fat.add(other.fat));
+    }
+
+    public JournalEntryTotals negate() {
+        return new JournalEntryTotals(quantity.negate(), kiloJoules.negate(), proteins.negate(),
+                carbohydrates.negate(), fiber.negate(), fat.negate());
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
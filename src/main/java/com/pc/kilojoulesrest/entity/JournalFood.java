@@ -1,6 +1,7 @@
 package com.pc.kilojoulesrest.entity;
 
 
+import com.pc.kilojoulesrest.service.JournalChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -13,7 +14,6 @@ import org.springframework.format.annotation.DateTimeFormat;
 
 import java.math.BigDecimal;
 import java.util.Date;
-import java.util.List;
 
 @Builder
 @AllArgsConstructor
@@ -22,10 +22,12 @@ import java.util.List;
 @Setter
 
 @Entity
+@EntityListeners(JournalChangeListener.class)
 @Table(name = "journal_foods")
 public class JournalFood implements JournalEntry, JournalFoodItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_foods_seq")
+    @SequenceGenerator(name = "journal_foods_seq", sequenceName = "journal_foods_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -84,8 +86,12 @@ public class JournalFood implements JournalEntry, JournalFoodItem {
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private Date updatedAt;
 
-    @OneToMany(mappedBy="journalFood", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
-    private List<JournalFoodPortion> portions;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "portion_set_hash")
+    private PortionSet portionSet;
+
+    @Transient
+    private JournalEntryTotals countedTotals;
 
     @Override
     public Long getJournalFoodId() {
@@ -1,5 +1,6 @@
 package com.pc.kilojoulesrest.entity;
 
+import com.pc.kilojoulesrest.service.JournalChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -18,10 +19,12 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@EntityListeners(JournalChangeListener.class)
 @Table(name = "journal_meals")
 public class JournalMeal implements JournalEntry {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_meals_seq")
+    @SequenceGenerator(name = "journal_meals_seq", sequenceName = "journal_meals_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -81,6 +84,9 @@ public class JournalMeal implements JournalEntry {
     @OneToMany(mappedBy = "journalMeal", cascade = CascadeType.ALL)
     private Set<JournalMealFood> journalMealFoods;
 
+    @Transient
+    private JournalEntryTotals countedTotals;
+
     @Override
     public Long getJournalFoodId() {
         return null;
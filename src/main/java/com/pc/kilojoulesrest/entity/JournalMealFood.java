@@ -8,7 +8,6 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 @Builder
 @AllArgsConstructor
@@ -19,7 +18,8 @@ import java.util.List;
 @Table(name = "journal_mealfoods")
 public class JournalMealFood implements JournalFoodItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_mealfoods_seq")
+    @SequenceGenerator(name = "journal_mealfoods_seq", sequenceName = "journal_mealfoods_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -74,6 +74,7 @@ public class JournalMealFood implements JournalFoodItem {
     @DecimalMin(value = "0.0", message = "PHE must be greater than or equal to zero")
     private BigDecimal phe;
 
-    @OneToMany(mappedBy="journalMealFood", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
-    private List<JournalMealFoodPortion> portions;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "portion_set_hash")
+    private PortionSet portionSet;
 }
@@ -1,36 +0,0 @@
-package com.pc.kilojoulesrest.entity;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
-import lombok.*;
-
-import java.math.BigDecimal;
-
-@AllArgsConstructor
-@NoArgsConstructor
-@Getter
-@Setter
-@Builder
-@Entity
-@Table(name = "journal_mealfood_portions")
-public class JournalMealFoodPortion {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @NotBlank
-    @Size(max = 55)
-    private String portionName;
-
-    @NotNull
-    @DecimalMin(value = "0.0", message = "Size must be greater than or equal to zero")
-    private BigDecimal portionSize;
-
-    @ManyToOne
-    @JoinColumn(name = "journal_mealfood_id")
-    private JournalMealFood journalMealFood;
-
-}
@@ -0,0 +1,25 @@
+package com.pc.kilojoulesrest.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Per user counter bumped on every journal, journal food and journal meal write.
+ * Anything derived from a user's journal can use it as a cache key, a staleness check is a single primary key read.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "journal_versions")
+public class JournalVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -1,5 +1,6 @@
 package com.pc.kilojoulesrest.entity;
 
+import com.pc.kilojoulesrest.util.StringNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -18,7 +19,7 @@ import java.util.Set;
 @Builder
 
 @Entity
-@Table(name = "meals")
+@Table(name = "meals", indexes = @Index(name = "idx_meals_user_meal_name_normalized", columnList = "user_id, meal_name_normalized"))
 public class Meal {
 
     @Id
@@ -30,6 +31,9 @@ public class Meal {
     @Column(nullable = false)
     private String mealName;
 
+    @Size(max = 255)
+    private String mealNameNormalized;
+
     @CreationTimestamp
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private Date createdAt;
@@ -45,7 +49,9 @@ public class Meal {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-
-
-
+    @PrePersist
+    @PreUpdate
+    private void normalizeMealName() {
+        this.mealNameNormalized = StringNormalizer.normalize(mealName);
+    }
 }
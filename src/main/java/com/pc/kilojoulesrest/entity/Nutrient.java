@@ -0,0 +1,23 @@
+package com.pc.kilojoulesrest.entity;
+
+public enum Nutrient {
+    QUANTITY("quantity"),
+    KILOJOULES("kilo_joules"),
+    PROTEINS("proteins"),
+    CARBOHYDRATES("carbohydrates"),
+    FIBER("fiber"),
+    FAT("fat");
+
+    /**
+     * column name shared by the journal_foods and journal_meals tables
+     */
+    private final String column;
+
+    Nutrient(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
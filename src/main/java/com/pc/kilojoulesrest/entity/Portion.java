@@ -21,7 +21,8 @@ import java.math.BigDecimal;
 public class Portion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portions_seq")
+    @SequenceGenerator(name = "portions_seq", sequenceName = "portions_seq", allocationSize = 50)
     private Long id;
 
     @NonNull
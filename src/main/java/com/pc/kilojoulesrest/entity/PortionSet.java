@@ -0,0 +1,35 @@
+package com.pc.kilojoulesrest.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of a food's portions at the time it was logged, shared by every journal entry with the same portions.
+ * The id is the SHA-256 hash of the portions, so each distinct configuration is written only once.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Immutable
+@BatchSize(size = 50)
+@Table(name = "portion_sets")
+public class PortionSet {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "portion_set_portions", joinColumns = @JoinColumn(name = "portion_set_hash"))
+    @OrderColumn(name = "position")
+    private List<PortionSnapshot> portions = new ArrayList<>();
+}
@@ -1,6 +1,7 @@
 package com.pc.kilojoulesrest.entity;
 
-import jakarta.persistence.*;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -14,23 +15,16 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @Getter
 @Setter
-@Entity
-@Table(name = "journal_food_portions")
-public class JournalFoodPortion {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+@Embeddable
+public class PortionSnapshot {
 
     @NotBlank
     @Size(max = 55)
+    @Column(nullable = false)
     private String portionName;
 
     @NotNull
     @DecimalMin(value = "0.0", message = "Size must be greater than or equal to zero")
+    @Column(nullable = false)
     private BigDecimal portionSize;
-
-    @ManyToOne
-    @JoinColumn(name = "journal_food_id")
-    private JournalFood journalFood;
-
 }
@@ -0,0 +1,17 @@
+package com.pc.kilojoulesrest.exception;
+
+import java.time.Duration;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public IdempotencyKeyInProgressException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pc.kilojoulesrest.model.ErrorDTO;
 import com.pc.kilojoulesrest.service.JwtService;
 import com.pc.kilojoulesrest.service.UserInfoUserDetailsService;
+import com.pc.kilojoulesrest.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,6 +33,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     @Autowired
     private UserInfoUserDetailsService userDetailsService;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         return request.getServletPath().equals("/api/login");
@@ -43,18 +52,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         try {
 
             String authHeader = request.getHeader("Authorization");
-            String token = null;
-            String username = null;
 
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-                username = jwtService.extractUsername(token);
-            }
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (authHeader != null && authHeader.startsWith("Bearer ")
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                Claims claims = jwtService.extractAllClaims(authHeader.substring(7));
+                UserDetails userDetails = stateless ? authenticateFromClaims(claims) : authenticateFromDatabase(claims);
 
-                if (jwtService.validateToken(token, userDetails)) {
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -72,4 +76,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             response.getWriter().write(new ObjectMapper().writeValueAsString(error));
         }
     }
+
+    private UserDetails authenticateFromDatabase(Claims claims) {
+        String username = claims.getSubject();
+        if (username == null) {
+            return null;
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        return jwtService.validateToken(claims, userDetails) ? userDetails : null;
+    }
+
+    /**
+     * The signature and expiry are checked while parsing, so the claims can be trusted as they are.
+     * With the principal cache enabled, the cached database principal is used instead, so that
+     * a deleted user or a changed role takes effect within the cache TTL.
+     */
+    private UserDetails authenticateFromClaims(Claims claims) {
+        UserDetails userDetails = jwtService.extractUserDetails(claims);
+        if (userDetails.getUsername() == null) {
+            return null;
+        }
+        if (userPrincipalCache.isEnabled()) {
+            return userPrincipalCache.get(userDetails.getUsername());
+        }
+        return userDetails;
+    }
 }
@@ -0,0 +1,13 @@
+package com.pc.kilojoulesrest.model;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsDTO {
+
+    private long size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+}
@@ -2,6 +2,7 @@ package com.pc.kilojoulesrest.model;
 
 import com.opencsv.bean.CsvBindByName;
 import com.opencsv.bean.CsvDate;
+import com.opencsv.bean.CsvIgnore;
 import com.opencsv.bean.CsvNumber;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,6 +19,11 @@ public class FoodCSVRecord {
 
     @CsvBindByName(column = "Název")
     private String name;
+    /**
+     * Line of the record in the file, counted like the line numbers of rows that fail to parse.
+     */
+    @CsvIgnore
+    private long lineNumber;
     @CsvBindByName(column = "Čas zápisu")
     @CsvDate("dd.MM.yyyy")  // Specify the date format
     private Date createdAt;
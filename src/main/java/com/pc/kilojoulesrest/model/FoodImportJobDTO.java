@@ -0,0 +1,27 @@
+package com.pc.kilojoulesrest.model;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class FoodImportJobDTO {
+
+    private String jobId;
+    private FoodImportJobStatus status;
+    private String fileName;
+    private FoodImportMode mode;
+    private int processed;
+    private int imported;
+    private int updated;
+    private int unchanged;
+    private int merged;
+    private int rejected;
+    private double rowsPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String message;
+    private List<String> errors = new ArrayList<>();
+}
@@ -0,0 +1,5 @@
+package com.pc.kilojoulesrest.model;
+
+public enum FoodImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,8 @@
+package com.pc.kilojoulesrest.model;
+
+public enum FoodImportMode {
+    /** Every row becomes a new food. */
+    INSERT,
+    /** Rows are matched to existing foods by normalized name, only changed values are updated. */
+    UPSERT
+}
@@ -0,0 +1,30 @@
+package com.pc.kilojoulesrest.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class FoodImportResult {
+
+    public static final int MAX_ERRORS = 100;
+
+    private int processed;
+    private int imported;
+    private int updated;
+    private int unchanged;
+    /**
+     * Rows whose values were merged into a food already written or updated by an earlier row of the same name.
+     */
+    private int merged;
+    private int skipped;
+    private List<String> errors = new ArrayList<>();
+
+    public void addError(String error) {
+        skipped++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+}
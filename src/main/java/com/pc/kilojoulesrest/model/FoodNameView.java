@@ -0,0 +1,8 @@
+package com.pc.kilojoulesrest.model;
+
+public interface FoodNameView {
+
+    Long getId();
+
+    String getName();
+}
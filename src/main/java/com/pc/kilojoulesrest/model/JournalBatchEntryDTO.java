@@ -0,0 +1,39 @@
+package com.pc.kilojoulesrest.model;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One entry of a batch journal write, either a food (foodId and quantity) or a saved meal (mealId).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalBatchEntryDTO {
+
+    private Long foodId;
+
+    private Long mealId;
+
+    /**
+     * Parsed per entry, so a malformed date only rejects this entry and not the whole batch.
+     */
+    @NotNull(message = "Consumption date cannot be null")
+    private String consumedAt;
+
+    @NotBlank
+    private String mealType;
+
+    private String foodName;
+
+    @DecimalMin(value = "0.0", message = "Quantity must be greater than or equal to zero")
+    private BigDecimal quantity;
+}
@@ -0,0 +1,20 @@
+package com.pc.kilojoulesrest.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalBatchRequestDTO {
+
+    @NotEmpty(message = "Batch must contain at least one entry")
+    @Size(max = 200, message = "Batch must not contain more than 200 entries")
+    private List<@Valid JournalBatchEntryDTO> entries;
+}
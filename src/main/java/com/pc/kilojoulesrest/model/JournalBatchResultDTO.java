@@ -0,0 +1,21 @@
+package com.pc.kilojoulesrest.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one batch entry, in request order. Created entries carry the journal id, rejected ones the reason.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalBatchResultDTO {
+
+    private int index;
+    private int status;
+    private Long journalId;
+    private String error;
+}
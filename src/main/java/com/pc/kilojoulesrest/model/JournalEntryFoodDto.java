@@ -55,7 +55,9 @@ public class JournalEntryFoodDto {
         dto.setSodium(jf.getSodium());
         dto.setCalcium(jf.getCalcium());
         dto.setPhe(jf.getPhe());
-        dto.setPortions(jf.getPortions().stream().map(PortionResponseDTO::fromEntity).collect(Collectors.toList()));
+        dto.setPortions(jf.getPortionSet() == null ? new ArrayList<>() : jf.getPortionSet().getPortions().stream()
+                .map(snapshot -> PortionResponseDTO.fromSnapshot(snapshot, jf.getId()))
+                .collect(Collectors.toList()));
 
         dto.setId(journal.getId());
         dto.setConsumedAt(journal.getConsumedAt().toString());
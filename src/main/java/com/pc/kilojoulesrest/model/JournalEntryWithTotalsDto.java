@@ -21,6 +21,8 @@ public class JournalEntryWithTotalsDto {
     private BigDecimal totalFiber = BigDecimal.ZERO;
     private BigDecimal totalFat = BigDecimal.ZERO;
 
+    List<MealTypeTotalsDTO> mealTypeTotals;
+
     List<JournalEntryDTO> entries;
 
 }
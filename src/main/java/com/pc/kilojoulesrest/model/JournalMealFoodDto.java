@@ -1,7 +1,7 @@
 package com.pc.kilojoulesrest.model;
 
 import com.pc.kilojoulesrest.entity.JournalMealFood;
-import com.pc.kilojoulesrest.entity.JournalMealFoodPortion;
+import com.pc.kilojoulesrest.entity.PortionSnapshot;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -11,6 +11,7 @@ import lombok.Value;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -38,12 +39,11 @@ public class JournalMealFoodDto implements Serializable {
     List<JournalMealFoodPortionDto> portions;
 
     /**
-     * DTO for {@link JournalMealFoodPortion}
+     * DTO for {@link PortionSnapshot}
      */
     @Data
     @RequiredArgsConstructor
     public static class JournalMealFoodPortionDto implements Serializable {
-        Long id;
         String portionName;
         BigDecimal portionSize;
     }
@@ -67,10 +67,9 @@ public class JournalMealFoodDto implements Serializable {
         dto.setSodium(journalMealFood.getSodium());
         dto.setCalcium(journalMealFood.getCalcium());
         dto.setPhe(journalMealFood.getPhe());
-        dto.setPortions(journalMealFood.getPortions().stream()
+        dto.setPortions(journalMealFood.getPortionSet() == null ? new ArrayList<>() : journalMealFood.getPortionSet().getPortions().stream()
                 .map(portion -> {
                     JournalMealFoodDto.JournalMealFoodPortionDto portionDto = new JournalMealFoodDto.JournalMealFoodPortionDto();
-                    portionDto.setId(portion.getId());
                     portionDto.setPortionName(portion.getPortionName());
                     portionDto.setPortionSize(portion.getPortionSize());
                     return portionDto;
@@ -23,4 +23,17 @@ public class JournalTotalsDTO {
     private BigDecimal avgCarbohydrates = BigDecimal.ZERO;
     private BigDecimal avgFiber = BigDecimal.ZERO;
     private BigDecimal avgFat = BigDecimal.ZERO;
+
+    /**
+     * Used by the aggregation query in DailyNutritionSummaryRepository, SUM() returns null when there are no rows
+     */
+    public JournalTotalsDTO(BigDecimal totalQuantity, BigDecimal totalKiloJoules, BigDecimal totalProteins,
+                            BigDecimal totalCarbohydrates, BigDecimal totalFiber, BigDecimal totalFat) {
+        this.totalQuantity = totalQuantity != null ? totalQuantity : BigDecimal.ZERO;
+        this.totalKiloJoules = totalKiloJoules != null ? totalKiloJoules : BigDecimal.ZERO;
+        this.totalProteins = totalProteins != null ? totalProteins : BigDecimal.ZERO;
+        this.totalCarbohydrates = totalCarbohydrates != null ? totalCarbohydrates : BigDecimal.ZERO;
+        this.totalFiber = totalFiber != null ? totalFiber : BigDecimal.ZERO;
+        this.totalFat = totalFat != null ? totalFat : BigDecimal.ZERO;
+    }
 }
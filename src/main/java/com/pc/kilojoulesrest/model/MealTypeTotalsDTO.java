@@ -0,0 +1,25 @@
+package com.pc.kilojoulesrest.model;
+
+import com.pc.kilojoulesrest.entity.MealType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+public class MealTypeTotalsDTO {
+
+    private MealType mealType;
+
+    private BigDecimal totalQuantity = BigDecimal.ZERO;
+    private BigDecimal totalKiloJoules = BigDecimal.ZERO;
+    private BigDecimal totalProteins = BigDecimal.ZERO;
+    private BigDecimal totalCarbohydrates = BigDecimal.ZERO;
+    private BigDecimal totalFiber = BigDecimal.ZERO;
+    private BigDecimal totalFat = BigDecimal.ZERO;
+
+    public MealTypeTotalsDTO(MealType mealType) {
+        this.mealType = mealType;
+    }
+}
@@ -1,6 +1,6 @@
 package com.pc.kilojoulesrest.model;
 
-import com.pc.kilojoulesrest.entity.JournalFoodPortion;
+import com.pc.kilojoulesrest.entity.PortionSnapshot;
 import com.pc.kilojoulesrest.entity.Portion;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -34,16 +34,15 @@ public class PortionResponseDTO {
         return dto;
     }
 
-    public static PortionResponseDTO fromEntity(JournalFoodPortion jfp) {
-        if (jfp == null) {
+    public static PortionResponseDTO fromSnapshot(PortionSnapshot snapshot, Long journalFoodId) {
+        if (snapshot == null) {
             return null;
         }
 
         PortionResponseDTO dto = new PortionResponseDTO();
-        dto.setId(jfp.getId());
-        dto.setFoodId(jfp.getJournalFood().getId());
-        dto.setPortionName(jfp.getPortionName());
-        dto.setPortionSize(jfp.getPortionSize());
+        dto.setFoodId(journalFoodId);
+        dto.setPortionName(snapshot.getPortionName());
+        dto.setPortionSize(snapshot.getPortionSize());
 
         return dto;
     }
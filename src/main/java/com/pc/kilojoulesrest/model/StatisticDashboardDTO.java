@@ -0,0 +1,22 @@
+package com.pc.kilojoulesrest.model;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class StatisticDashboardDTO {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    private JournalTotalsDTO totals;
+
+    private List<TopTenDTO> topKiloJoules = new ArrayList<>();
+    private List<TopTenDTO> topProteins = new ArrayList<>();
+    private List<TopTenDTO> topCarbohydrates = new ArrayList<>();
+    private List<TopTenDTO> topFiber = new ArrayList<>();
+    private List<TopTenDTO> topFat = new ArrayList<>();
+}
@@ -1,5 +1,6 @@
 package com.pc.kilojoulesrest.model;
 
+import com.pc.kilojoulesrest.entity.Nutrient;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,4 +24,14 @@ public class TopTenDTO {
 
     private int count;
 
+    public void setNutrientValue(Nutrient nutrient, BigDecimal value) {
+        switch (nutrient) {
+            case QUANTITY -> quantity = value;
+            case KILOJOULES -> kiloJoules = value;
+            case PROTEINS -> proteins = value;
+            case CARBOHYDRATES -> carbohydrates = value;
+            case FIBER -> fiber = value;
+            case FAT -> fat = value;
+        }
+    }
 }
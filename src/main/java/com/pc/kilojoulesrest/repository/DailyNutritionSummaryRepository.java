@@ -0,0 +1,50 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.DailyNutritionSummary;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyNutritionSummaryRepository extends JpaRepository<DailyNutritionSummary, Long> {
+
+    List<DailyNutritionSummary> findAllByUserAndConsumedAtBetween(User user, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Adds the delta to the row of the given day and meal type and bumps its version, or creates the row with the
+     * delta on first write, in one statement so that concurrent first writes cannot collide on the unique key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_nutrition_summary " +
+            "(user_id, consumed_at, meal_type, quantity, kilo_joules, proteins, carbohydrates, fiber, fat, entry_count, version) " +
+            "VALUES (:userId, :consumedAt, :mealType, :quantity, :kiloJoules, :proteins, :carbohydrates, :fiber, :fat, :entryCount, 1) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "quantity = quantity + :quantity, " +
+            "kilo_joules = kilo_joules + :kiloJoules, " +
+            "proteins = proteins + :proteins, " +
+            "carbohydrates = carbohydrates + :carbohydrates, " +
+            "fiber = fiber + :fiber, " +
+            "fat = fat + :fat, " +
+            "entry_count = entry_count + :entryCount, " +
+            "version = version + 1", nativeQuery = true)
+    int upsertDelta(@Param("userId") Long userId, @Param("consumedAt") LocalDate consumedAt, @Param("mealType") int mealType,
+                    @Param("quantity") BigDecimal quantity, @Param("kiloJoules") BigDecimal kiloJoules,
+                    @Param("proteins") BigDecimal proteins, @Param("carbohydrates") BigDecimal carbohydrates,
+                    @Param("fiber") BigDecimal fiber, @Param("fat") BigDecimal fat, @Param("entryCount") int entryCount);
+
+    @Query("SELECT new com.pc.kilojoulesrest.model.JournalTotalsDTO(" +
+            "SUM(s.quantity), SUM(s.kiloJoules), SUM(s.proteins), SUM(s.carbohydrates), SUM(s.fiber), SUM(s.fat)) " +
+            "FROM DailyNutritionSummary s " +
+            "WHERE s.user = :user AND s.consumedAt BETWEEN :startDate AND :endDate")
+    JournalTotalsDTO sumTotalsByUserAndConsumedAtBetween(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COALESCE(SUM(s.version), 0) FROM DailyNutritionSummary s " +
+            "WHERE s.user.id = :userId AND s.consumedAt BETWEEN :startDate AND :endDate")
+    long sumVersionsByUserIdAndConsumedAtBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -1,12 +1,33 @@
 package com.pc.kilojoulesrest.repository;
 
 import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.model.FoodNameView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface FoodRepository extends JpaRepository<Food, Long>, PagingAndSortingRepository<Food, Long> {
 
-    Page<Food> findAllByNameContainsIgnoreCase(String query, Pageable pageable);
-}
\ No newline at end of file
+    @EntityGraph(attributePaths = "portions")
+    Optional<Food> findWithPortionsById(Long id);
+
+    @EntityGraph(attributePaths = "portions")
+    @Query("SELECT f FROM Food f")
+    List<Food> findAllWithPortions();
+
+    Page<Food> findAllByNameNormalizedStartingWith(String prefix, Pageable pageable);
+
+    Page<Food> findAllByNameNormalizedContaining(String query, Pageable pageable);
+
+    List<Food> findAllByNameNormalizedIn(Collection<String> names);
+
+    @Query("SELECT f.id AS id, f.name AS name FROM Food f")
+    List<FoodNameView> findAllFoodNames();
+}
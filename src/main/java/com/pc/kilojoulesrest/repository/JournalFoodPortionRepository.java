@@ -1,7 +0,0 @@
-package com.pc.kilojoulesrest.repository;
-
-import com.pc.kilojoulesrest.entity.JournalFoodPortion;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface JournalFoodPortionRepository extends JpaRepository<JournalFoodPortion, Long> {
-}
\ No newline at end of file
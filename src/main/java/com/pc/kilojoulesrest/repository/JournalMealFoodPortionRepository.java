@@ -1,7 +0,0 @@
-package com.pc.kilojoulesrest.repository;
-
-import com.pc.kilojoulesrest.entity.JournalMealFoodPortion;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface JournalMealFoodPortionRepository extends JpaRepository<JournalMealFoodPortion, Long> {
-}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.Nutrient;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.TopTenDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JournalRepositoryCustom {
+
+    List<TopTenDTO> findTopByNutrient(User user, LocalDate startDate, LocalDate endDate, Nutrient nutrient, int limit);
+
+    List<TopTenDTO> findTopByNutrientGroupedByName(User user, LocalDate startDate, LocalDate endDate, Nutrient nutrient, int limit);
+}
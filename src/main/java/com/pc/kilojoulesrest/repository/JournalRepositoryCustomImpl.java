@@ -0,0 +1,88 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.Nutrient;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.TopTenDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JournalRepositoryCustomImpl implements JournalRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Ranks journal foods and journal meals together in one UNION ALL query, ties broken by name and id so the
+     * ranking does not change between calls. The column name comes from the Nutrient enum only, never from user input.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TopTenDTO> findTopByNutrient(User user, LocalDate startDate, LocalDate endDate, Nutrient nutrient, int limit) {
+        String sql = "SELECT food_id, meal_id, name, amount FROM (" + journalItemsOf(nutrient) + ") items " +
+                "ORDER BY amount DESC, name, food_id, meal_id";
+
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("userId", user.getId())
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> toTopTenDto(row, nutrient))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sums the nutrient and counts the entries per item name over the whole date range.
+     * Foods and meals are grouped apart, so a food and a meal sharing a name never mix their ids.
+     * A grouped row carries the id of the latest entry of its name, the highest one, and ties are broken by name.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TopTenDTO> findTopByNutrientGroupedByName(User user, LocalDate startDate, LocalDate endDate, Nutrient nutrient, int limit) {
+        String sql = "SELECT MAX(food_id) AS latest_food_id, MAX(meal_id) AS latest_meal_id, name, SUM(amount) AS total, COUNT(*) " +
+                "FROM (" + journalItemsOf(nutrient) + ") items " +
+                "GROUP BY entry_kind, name ORDER BY total DESC, name, latest_food_id, latest_meal_id";
+
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("userId", user.getId())
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> {
+                    TopTenDTO item = toTopTenDto(row, nutrient);
+                    item.setCount(((Number) row[4]).intValue());
+                    return item;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private String journalItemsOf(Nutrient nutrient) {
+        String column = nutrient.getColumn();
+        return "SELECT jf.id AS food_id, NULL AS meal_id, jf.name AS name, jf." + column + " AS amount, 'F' AS entry_kind " +
+                "FROM journal j JOIN journal_foods jf ON jf.id = j.journal_food_id " +
+                "WHERE j.user_id = :userId AND j.consumed_at BETWEEN :startDate AND :endDate AND jf." + column + " > 0 " +
+                "UNION ALL " +
+                "SELECT NULL, jm.id, jm.meal_name, jm." + column + ", 'M' " +
+                "FROM journal j JOIN journal_meals jm ON jm.id = j.journal_meal_id " +
+                "WHERE j.user_id = :userId AND j.consumed_at BETWEEN :startDate AND :endDate AND jm." + column + " > 0";
+    }
+
+    private TopTenDTO toTopTenDto(Object[] row, Nutrient nutrient) {
+        TopTenDTO item = new TopTenDTO();
+        item.setFoodId(row[0] != null ? ((Number) row[0]).longValue() : null);
+        item.setMealId(row[1] != null ? ((Number) row[1]).longValue() : null);
+        item.setName((String) row[2]);
+        item.setNutrientValue(nutrient, (BigDecimal) row[3]);
+        return item;
+    }
+}
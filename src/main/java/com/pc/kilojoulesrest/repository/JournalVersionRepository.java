@@ -0,0 +1,24 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.JournalVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JournalVersionRepository extends JpaRepository<JournalVersion, Long> {
+
+    /**
+     * Bumps the version, or creates it at 1 on the first journal write of the user, in one statement so that
+     * concurrent first writes cannot collide on the primary key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO journal_versions (user_id, version) VALUES (:userId, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int incrementVersion(@Param("userId") Long userId);
+
+    @Query("SELECT v.version FROM JournalVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+}
@@ -4,13 +4,20 @@ import com.pc.kilojoulesrest.entity.Meal;
 import com.pc.kilojoulesrest.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface MealRepository extends JpaRepository<Meal, Long>, PagingAndSortingRepository<Meal, Long> {
 
     Page<Meal> findAllByUser(User user, Pageable pageable);
-    Page<Meal> findAllByUserAndMealNameContainsIgnoreCase(User user, String name, Pageable pageable);
+    Page<Meal> findAllByUserAndMealNameNormalizedStartingWith(User user, String prefix, Pageable pageable);
+    Page<Meal> findAllByUserAndMealNameNormalizedContaining(User user, String query, Pageable pageable);
     boolean existsMealByIdAndUser(Long id, User user);
+    @EntityGraph(attributePaths = {"mealFoods", "mealFoods.food", "mealFoods.food.portions"})
+    List<Meal> findAllByIdInAndUser(Collection<Long> ids, User user);
 
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.PortionSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+
+public interface PortionSetRepository extends JpaRepository<PortionSet, String> {
+
+    /**
+     * Writes the set row unless it exists. A concurrent insert of the same hash waits on the row lock
+     * and is then ignored instead of failing the calling transaction.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO portion_sets (hash) VALUES (:hash)", nativeQuery = true)
+    int insertIgnore(@Param("hash") String hash);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO portion_set_portions (portion_set_hash, position, portion_name, portion_size) " +
+            "VALUES (:hash, :position, :portionName, :portionSize)", nativeQuery = true)
+    int insertPortionIgnore(@Param("hash") String hash, @Param("position") int position,
+                            @Param("portionName") String portionName, @Param("portionSize") BigDecimal portionSize);
+}
@@ -0,0 +1,15 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+
+import java.time.LocalDate;
+
+public interface DailyNutritionSummaryService {
+
+    void applyChanges(JournalChanges changes);
+
+    JournalTotalsDTO sumTotalsByPeriod(User user, LocalDate startDate, LocalDate endDate);
+
+    long fetchRangeVersion(Long userId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,113 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+import com.pc.kilojoulesrest.repository.DailyNutritionSummaryRepository;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+public class DailyNutritionSummaryServiceImpl implements DailyNutritionSummaryService {
+
+    private static final Comparator<SummaryKey> KEY_ORDER = Comparator.comparing(SummaryKey::userId)
+            .thenComparing(SummaryKey::consumedAt)
+            .thenComparing(SummaryKey::mealType);
+
+    private final DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    private final JournalRepository journalRepository;
+    private final EntityManager entityManager;
+
+    public DailyNutritionSummaryServiceImpl(DailyNutritionSummaryRepository dailyNutritionSummaryRepository, JournalRepository journalRepository, EntityManager entityManager) {
+        this.dailyNutritionSummaryRepository = dailyNutritionSummaryRepository;
+        this.journalRepository = journalRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Flushes first so that changes still pending in the persistence context are recorded too, then takes every
+     * affected journal entry off the row it is counted under and adds it to the row of its current day and meal type.
+     * The deltas are summed per row and written with one upsert each, in key order to keep concurrent transactions
+     * from locking the rows the other way round.
+     */
+    @Override
+    @Transactional
+    public void applyChanges(JournalChanges changes) {
+        entityManager.flush();
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Journal> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+        journals.addAll(changes.getJournals());
+        if (!changes.getJournalFoodIds().isEmpty()) {
+            journals.addAll(journalRepository.findAllByJournalFoodIdIn(changes.getJournalFoodIds()));
+        }
+        if (!changes.getJournalMealIds().isEmpty()) {
+            journals.addAll(journalRepository.findAllByJournalMealIdIn(changes.getJournalMealIds()));
+        }
+
+        Map<SummaryKey, SummaryDelta> deltas = new TreeMap<>(KEY_ORDER);
+        for (Journal journal : journals) {
+            JournalEntry entry = journal.getJournalFood() != null ? journal.getJournalFood() : journal.getJournalMeal();
+            if (journal.getCountedConsumedAt() != null) {
+                JournalEntryTotals counted = entry != null && entry.getCountedTotals() != null ? entry.getCountedTotals() : JournalEntryTotals.ZERO;
+                addDelta(deltas, journal.getUser(), journal.getCountedConsumedAt(), journal.getCountedMealType(),
+                        new SummaryDelta(counted.negate(), -1));
+            }
+            if (!changes.getRemovedJournals().contains(journal)) {
+                JournalEntryTotals current = JournalEntryTotals.of(entry);
+                addDelta(deltas, journal.getUser(), journal.getConsumedAt(), journal.getMealType(),
+                        new SummaryDelta(current, 1));
+                journal.setCountedConsumedAt(journal.getConsumedAt());
+                journal.setCountedMealType(journal.getMealType());
+                if (entry != null) {
+                    entry.setCountedTotals(current);
+                }
+            }
+        }
+        deltas.forEach((key, delta) -> dailyNutritionSummaryRepository.upsertDelta(key.userId(), key.consumedAt(),
+                key.mealType().ordinal(), delta.totals().quantity(), delta.totals().kiloJoules(),
+                delta.totals().proteins(), delta.totals().carbohydrates(), delta.totals().fiber(),
+                delta.totals().fat(), delta.entryCount()));
+    }
+
+    private void addDelta(Map<SummaryKey, SummaryDelta> deltas, User user, LocalDate consumedAt, MealType mealType, SummaryDelta delta) {
+        if (user == null || consumedAt == null || mealType == null) {
+            return;
+        }
+        deltas.merge(new SummaryKey(user.getId(), consumedAt, mealType), delta, SummaryDelta::add);
+    }
+
+    @Override
+    public JournalTotalsDTO sumTotalsByPeriod(User user, LocalDate startDate, LocalDate endDate) {
+        return dailyNutritionSummaryRepository.sumTotalsByUserAndConsumedAtBetween(user, startDate, endDate);
+    }
+
+    /**
+     * Sum of the row versions in the range. Rows are never deleted and every write bumps one, so the sum changes
+     * whenever anything in the range does.
+     */
+    @Override
+    public long fetchRangeVersion(Long userId, LocalDate startDate, LocalDate endDate) {
+        return dailyNutritionSummaryRepository.sumVersionsByUserIdAndConsumedAtBetween(userId, startDate, endDate);
+    }
+
+    private record SummaryKey(Long userId, LocalDate consumedAt, MealType mealType) {
+    }
+
+    private record SummaryDelta(JournalEntryTotals totals, int entryCount) {
+
+        SummaryDelta add(SummaryDelta other) {
+            return new SummaryDelta(totals.add(other.totals), entryCount + other.entryCount);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.pc.kilojoulesrest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pc.kilojoulesrest.model.CacheStatsDTO;
+import com.pc.kilojoulesrest.model.FoodDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of food catalog snapshots (food values plus portions) keyed by food id.
+ * Entries are evicted by FoodServiceImpl whenever a food is saved, portion writes save their food through it too,
+ * and by the CSV import for the foods it updates.
+ */
+@Component
+public class FoodCatalogCache {
+
+    private final Cache<Long, FoodDto> cache;
+
+    public FoodCatalogCache(@Value("${food.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${food.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public FoodDto get(Long id, Function<Long, FoodDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Evicts the entry right away and, inside a transaction, once more after commit,
+     * so that a concurrent reader cannot put back the state from before the commit.
+     */
+    public void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setSize(cache.estimatedSize());
+        dto.setHits(stats.hitCount());
+        dto.setMisses(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictions(stats.evictionCount());
+        return dto;
+    }
+}
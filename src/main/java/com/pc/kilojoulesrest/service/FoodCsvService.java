@@ -1,11 +1,15 @@
 package com.pc.kilojoulesrest.service;
 
+import com.opencsv.bean.CsvToBean;
 import com.pc.kilojoulesrest.model.FoodCSVRecord;
 
 import java.io.File;
+import java.io.Reader;
 import java.util.List;
 
 public interface FoodCsvService {
         List<FoodCSVRecord> convertCSV(File csvFile);
 
+        CsvToBean<FoodCSVRecord> iterateCSV(Reader reader);
+
     }
@@ -1,5 +1,9 @@
 package com.pc.kilojoulesrest.service;
 
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.pc.kilojoulesrest.model.FoodCSVRecord;
 import org.springframework.stereotype.Service;
@@ -7,6 +11,7 @@ import org.springframework.stereotype.Service;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.Reader;
 import java.util.List;
 
 @Service
@@ -23,4 +28,24 @@ public class FoodCsvServiceImpl implements FoodCsvService {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads records one at a time while iterating. Rows that cannot be converted are skipped
+     * and collected in getCapturedExceptions(). Each record carries the line it was read from, numbered
+     * the same way as the captured exceptions. The caller closes the reader.
+     */
+    @Override
+    public CsvToBean<FoodCSVRecord> iterateCSV(Reader reader) {
+        CSVReader csvReader = new CSVReaderBuilder(reader)
+                .withCSVParser(new CSVParserBuilder().withSeparator(';').build())
+                .build();
+        return new CsvToBeanBuilder<FoodCSVRecord>(csvReader)
+                .withType(FoodCSVRecord.class)
+                .withThrowExceptions(false)
+                .withVerifier(record -> {
+                    record.setLineNumber(csvReader.getLinesRead());
+                    return true;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.model.FoodImportJobDTO;
+import com.pc.kilojoulesrest.model.FoodImportMode;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface FoodImportJobService {
+
+    FoodImportJobDTO submitImport(MultipartFile file, FoodImportMode mode) throws IOException;
+
+    FoodImportJobDTO fetchJob(String jobId);
+}
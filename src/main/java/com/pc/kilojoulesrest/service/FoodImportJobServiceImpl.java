@@ -0,0 +1,144 @@
+package com.pc.kilojoulesrest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pc.kilojoulesrest.exception.RecordNotFoundException;
+import com.pc.kilojoulesrest.model.FoodImportJobDTO;
+import com.pc.kilojoulesrest.model.FoodImportJobStatus;
+import com.pc.kilojoulesrest.model.FoodImportMode;
+import com.pc.kilojoulesrest.model.FoodImportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Runs CSV imports on the food import executor. The upload is copied to a temporary file first,
+ * because the multipart stream is gone once the request returns. Job state is kept in memory for a day.
+ */
+@Service
+public class FoodImportJobServiceImpl implements FoodImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodImportJobServiceImpl.class);
+
+    private final FoodImportService foodImportService;
+    private final TaskExecutor foodImportExecutor;
+    private final Cache<String, FoodImportJobDTO> jobs = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    public FoodImportJobServiceImpl(FoodImportService foodImportService, @Qualifier("foodImportExecutor") TaskExecutor foodImportExecutor) {
+        this.foodImportService = foodImportService;
+        this.foodImportExecutor = foodImportExecutor;
+    }
+
+    @Override
+    public FoodImportJobDTO submitImport(MultipartFile file, FoodImportMode mode) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Uploaded file is empty.");
+        }
+        Path csvFile = Files.createTempFile("food-import-", ".csv");
+        file.transferTo(csvFile);
+
+        FoodImportJobDTO job = new FoodImportJobDTO();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setFileName(file.getOriginalFilename());
+        job.setMode(mode);
+        job.setStatus(FoodImportJobStatus.QUEUED);
+        jobs.put(job.getJobId(), job);
+        try {
+            foodImportExecutor.execute(() -> runImport(job, csvFile, mode));
+        } catch (RuntimeException e) {
+            jobs.invalidate(job.getJobId());
+            Files.deleteIfExists(csvFile);
+            throw e;
+        }
+        return copyOf(job);
+    }
+
+    @Override
+    public FoodImportJobDTO fetchJob(String jobId) {
+        FoodImportJobDTO job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new RecordNotFoundException("Import job with id " + jobId + " does not exist!");
+        }
+        return copyOf(job);
+    }
+
+    private void runImport(FoodImportJobDTO job, Path csvFile, FoodImportMode mode) {
+        synchronized (job) {
+            job.setStatus(FoodImportJobStatus.RUNNING);
+            job.setStartedAt(Instant.now());
+        }
+        try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            FoodImportResult result = foodImportService.importFoods(reader, mode, progress -> updateProgress(job, progress));
+            synchronized (job) {
+                updateProgress(job, result);
+                job.setStatus(FoodImportJobStatus.COMPLETED);
+                job.setFinishedAt(Instant.now());
+            }
+        } catch (Exception e) {
+            log.error("Food import job {} failed", job.getJobId(), e);
+            synchronized (job) {
+                job.setStatus(FoodImportJobStatus.FAILED);
+                job.setMessage(e.getMessage());
+                job.setFinishedAt(Instant.now());
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(csvFile);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", csvFile, e);
+            }
+        }
+    }
+
+    private void updateProgress(FoodImportJobDTO job, FoodImportResult progress) {
+        synchronized (job) {
+            job.setProcessed(progress.getProcessed());
+            job.setImported(progress.getImported());
+            job.setUpdated(progress.getUpdated());
+            job.setUnchanged(progress.getUnchanged());
+            job.setMerged(progress.getMerged());
+            job.setRejected(progress.getSkipped());
+            job.setErrors(new ArrayList<>(progress.getErrors()));
+            long millis = Duration.between(job.getStartedAt(), Instant.now()).toMillis();
+            job.setRowsPerSecond(millis > 0 ? progress.getProcessed() * 1000.0 / millis : progress.getProcessed());
+        }
+    }
+
+    private FoodImportJobDTO copyOf(FoodImportJobDTO job) {
+        synchronized (job) {
+            FoodImportJobDTO copy = new FoodImportJobDTO();
+            copy.setJobId(job.getJobId());
+            copy.setStatus(job.getStatus());
+            copy.setFileName(job.getFileName());
+            copy.setMode(job.getMode());
+            copy.setProcessed(job.getProcessed());
+            copy.setImported(job.getImported());
+            copy.setUpdated(job.getUpdated());
+            copy.setUnchanged(job.getUnchanged());
+            copy.setMerged(job.getMerged());
+            copy.setRejected(job.getRejected());
+            copy.setRowsPerSecond(job.getRowsPerSecond());
+            copy.setStartedAt(job.getStartedAt());
+            copy.setFinishedAt(job.getFinishedAt());
+            copy.setMessage(job.getMessage());
+            copy.setErrors(new ArrayList<>(job.getErrors()));
+            return copy;
+        }
+    }
+}
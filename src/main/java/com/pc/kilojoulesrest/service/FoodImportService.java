@@ -0,0 +1,16 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.model.FoodImportMode;
+import com.pc.kilojoulesrest.model.FoodImportResult;
+
+import java.io.Reader;
+import java.util.function.Consumer;
+
+public interface FoodImportService {
+
+    FoodImportResult importFoods(Reader reader);
+
+    FoodImportResult importFoods(Reader reader, Consumer<FoodImportResult> progressListener);
+
+    FoodImportResult importFoods(Reader reader, FoodImportMode mode, Consumer<FoodImportResult> progressListener);
+}
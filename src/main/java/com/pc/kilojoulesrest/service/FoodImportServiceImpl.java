@@ -0,0 +1,223 @@
+package com.pc.kilojoulesrest.service;
+
+import com.opencsv.bean.CsvToBean;
+import com.opencsv.exceptions.CsvException;
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.model.FoodCSVRecord;
+import com.pc.kilojoulesrest.model.FoodImportMode;
+import com.pc.kilojoulesrest.model.FoodImportResult;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.util.StringNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+
+/**
+ * Streams foods from a CSV file into the database. Rows are validated against the Food constraints,
+ * written in batches of {@code food.import.batch-size} with JDBC batching, and detached after each batch,
+ * so memory use does not grow with the size of the file.
+ * In UPSERT mode rows are matched to existing foods by normalized name and only foods whose values differ are updated.
+ */
+@Service
+public class FoodImportServiceImpl implements FoodImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodImportServiceImpl.class);
+
+    private static final List<Function<Food, BigDecimal>> NUTRIENT_GETTERS = List.of(Food::getQuantity, Food::getKiloJoules,
+            Food::getProteins, Food::getCarbohydrates, Food::getFiber, Food::getSugar, Food::getFat, Food::getSafa,
+            Food::getTfa, Food::getCholesterol, Food::getSodium, Food::getCalcium, Food::getPhe);
+
+    private final FoodRepository foodRepository;
+    private final FoodCsvService foodCsvService;
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodCatalogCache foodCatalogCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int batchSize;
+
+    public FoodImportServiceImpl(FoodRepository foodRepository, FoodCsvService foodCsvService, FoodSearchIndex foodSearchIndex,
+                                 FoodCatalogCache foodCatalogCache, EntityManager entityManager, PlatformTransactionManager transactionManager, Validator validator,
+                                 @Value("${food.import.batch-size:500}") int batchSize) {
+        this.foodRepository = foodRepository;
+        this.foodCsvService = foodCsvService;
+        this.foodSearchIndex = foodSearchIndex;
+        this.foodCatalogCache = foodCatalogCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public FoodImportResult importFoods(Reader reader) {
+        return importFoods(reader, result -> {});
+    }
+
+    @Override
+    public FoodImportResult importFoods(Reader reader, Consumer<FoodImportResult> progressListener) {
+        return importFoods(reader, FoodImportMode.INSERT, progressListener);
+    }
+
+    @Override
+    public FoodImportResult importFoods(Reader reader, FoodImportMode mode, Consumer<FoodImportResult> progressListener) {
+        long start = System.currentTimeMillis();
+        FoodImportResult result = new FoodImportResult();
+        CsvToBean<FoodCSVRecord> csvToBean = foodCsvService.iterateCSV(reader);
+        List<Food> batch = new ArrayList<>(batchSize);
+
+        for (FoodCSVRecord record : csvToBean) {
+            result.setProcessed(result.getProcessed() + 1);
+            Food food = convertRecord(record);
+            Set<ConstraintViolation<Food>> violations = validator.validate(food);
+            if (!violations.isEmpty()) {
+                result.addError("Line " + record.getLineNumber() + ": " + violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+            batch.add(food);
+            if (batch.size() == batchSize) {
+                writeBatch(batch, mode, result);
+                progressListener.accept(result);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, mode, result);
+        }
+        for (CsvException e : csvToBean.getCapturedExceptions()) {
+            result.setProcessed(result.getProcessed() + 1);
+            result.addError("Line " + e.getLineNumber() + ": " + e.getMessage());
+        }
+        progressListener.accept(result);
+        log.info("Food import ({}) finished in {} ms: {} imported, {} updated, {} unchanged, {} merged, {} skipped", mode,
+                System.currentTimeMillis() - start, result.getImported(), result.getUpdated(), result.getUnchanged(),
+                result.getMerged(), result.getSkipped());
+        return result;
+    }
+
+    private void writeBatch(List<Food> batch, FoodImportMode mode, FoodImportResult result) {
+        List<Food> inserted = new ArrayList<>();
+        List<Food> updated = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Food> existing = new ArrayList<>();
+            if (mode == FoodImportMode.UPSERT) {
+                Map<String, Food> foodsByName = new LinkedHashMap<>();
+                existing = foodRepository.findAllByNameNormalizedIn(batch.stream()
+                        .map(food -> StringNormalizer.normalize(food.getName()))
+                        .collect(Collectors.toSet()));
+                existing.stream()
+                        .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                        .forEach(food -> foodsByName.putIfAbsent(food.getNameNormalized(), food));
+                for (Food food : batch) {
+                    // later rows of the same name in the file are merged into the first one
+                    Food current = foodsByName.putIfAbsent(StringNormalizer.normalize(food.getName()), food);
+                    if (current == null) {
+                        inserted.add(food);
+                    } else if (copyChangedValues(food, current)) {
+                        if (current.getId() == null || updated.contains(current)) {
+                            result.setMerged(result.getMerged() + 1);
+                        } else {
+                            updated.add(current);
+                        }
+                    } else {
+                        result.setUnchanged(result.getUnchanged() + 1);
+                    }
+                }
+            } else {
+                inserted.addAll(batch);
+            }
+            foodRepository.saveAll(inserted);
+            entityManager.flush();
+            // detach instead of clear, a surrounding transaction may hold other managed entities
+            inserted.forEach(entityManager::detach);
+            existing.forEach(entityManager::detach);
+        });
+        inserted.forEach(food -> foodSearchIndex.put(food.getId(), food.getName()));
+        updated.forEach(food -> foodCatalogCache.evict(food.getId()));
+        result.setImported(result.getImported() + inserted.size());
+        result.setUpdated(result.getUpdated() + updated.size());
+        log.debug("Imported {} foods, updated {}", result.getImported(), result.getUpdated());
+        batch.clear();
+    }
+
+    /**
+     * Copies the nutrient values of source onto target when at least one of them differs by value,
+     * so that unchanged foods stay clean and produce no UPDATE.
+     */
+    private static boolean copyChangedValues(Food source, Food target) {
+        boolean changed = NUTRIENT_GETTERS.stream()
+                .anyMatch(getter -> !sameValue(getter.apply(source), getter.apply(target)));
+        if (!changed) {
+            return false;
+        }
+        target.setQuantity(source.getQuantity());
+        target.setKiloJoules(source.getKiloJoules());
+        target.setProteins(source.getProteins());
+        target.setCarbohydrates(source.getCarbohydrates());
+        target.setFiber(source.getFiber());
+        target.setSugar(source.getSugar());
+        target.setFat(source.getFat());
+        target.setSafa(source.getSafa());
+        target.setTfa(source.getTfa());
+        target.setCholesterol(source.getCholesterol());
+        target.setSodium(source.getSodium());
+        target.setCalcium(source.getCalcium());
+        target.setPhe(source.getPhe());
+        return true;
+    }
+
+    private static boolean sameValue(BigDecimal a, BigDecimal b) {
+        return Objects.equals(a, b) || (a != null && b != null && a.compareTo(b) == 0);
+    }
+
+    private Food convertRecord(FoodCSVRecord record) {
+        Food food = Food.builder()
+                .name(record.getName())
+                .quantity(valueOrZero(record.getQuantity()))
+                .kiloJoules(valueOrZero(record.getKiloJoules()))
+                .proteins(valueOrZero(record.getProteins()))
+                .carbohydrates(valueOrZero(record.getCarbohydrates()))
+                .fiber(valueOrZero(record.getFiber()))
+                .sugar(valueOrZero(record.getSugar()))
+                .fat(valueOrZero(record.getFat()))
+                .safa(valueOrZero(record.getSafa()))
+                .tfa(valueOrZero(record.getTfa()))
+                .cholesterol(valueOrZero(record.getCholesterol()))
+                .sodium(valueOrZero(record.getSodium()))
+                .calcium(valueOrZero(record.getCalcium()))
+                .phe(valueOrZero(record.getPhe()))
+                .createdAt(record.getCreatedAt())
+                .build();
+        List<Portion> portions = new ArrayList<>();
+        portions.add(new Portion("1 g", BigDecimal.ONE, food));
+        portions.add(new Portion("100 g", ONE_HUNDRED, food));
+        food.setPortions(portions);
+        return food;
+    }
+
+    private static BigDecimal valueOrZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
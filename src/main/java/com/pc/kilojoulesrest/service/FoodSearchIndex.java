@@ -0,0 +1,254 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.model.FoodNameView;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.util.StringNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trigram index over food names used by the type-ahead search. Names are also posted under every one and
+ * two character substring, so the short queries typed first are answered from one posting list too.
+ * Built once the application is ready and kept in step by FoodServiceImpl on create, update and delete.
+ * Changes made inside a transaction are applied when it commits, until then only that transaction sees them,
+ * and changes arriving while the index is rebuilt are replayed onto the rebuilt index.
+ */
+@Component
+public class FoodSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodSearchIndex.class);
+
+    private static final int GRAM = 3;
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator.comparingInt(Match::position)
+            .thenComparingInt(match -> match.name().length())
+            .thenComparing(Match::name)
+            .thenComparing(Match::id);
+
+    private final FoodRepository foodRepository;
+
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile Map<Long, String> names = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    // changes applied since the running rebuild started reading, null when no rebuild is running
+    private Map<Long, String> changesDuringRebuild;
+
+    public FoodSearchIndex(FoodRepository foodRepository) {
+        this.foodRepository = foodRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRebuild = new LinkedHashMap<>();
+        }
+        Map<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+        Map<Long, String> newNames = new ConcurrentHashMap<>();
+        try {
+            for (FoodNameView food : foodRepository.findAllFoodNames()) {
+                String name = StringNormalizer.normalize(food.getName());
+                newNames.put(food.getId(), name);
+                for (String gram : gramsOf(name)) {
+                    newPostings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(food.getId());
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            Map<Long, String> changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            postings = newPostings;
+            names = newNames;
+            // a change committed before the read is already in it, replaying it again is harmless
+            changes.forEach((id, name) -> {
+                if (name != null) {
+                    applyPut(id, name);
+                } else {
+                    applyRemove(id);
+                }
+            });
+            ready = true;
+        }
+        log.info("Food search index built with {} foods in {} ms", newNames.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Long id, String name) {
+        if (id == null || name == null) {
+            return;
+        }
+        afterCommit(id, StringNormalizer.normalize(name));
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        afterCommit(id, null);
+    }
+
+    /**
+     * Applies the change now when there is no transaction, otherwise keeps it visible to the current transaction
+     * only and applies it once the transaction commits, so a rollback leaves no trace in the index.
+     */
+    private void afterCommit(Long id, String normalizedName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(id, normalizedName);
+            return;
+        }
+        Map<Long, String> pending = pendingChanges();
+        if (pending == null) {
+            Map<Long, String> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changes.forEach(FoodSearchIndex.this::apply);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(FoodSearchIndex.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.put(id, normalizedName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> pendingChanges() {
+        return (Map<Long, String>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private synchronized void apply(Long id, String normalizedName) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(id, normalizedName);
+        }
+        if (normalizedName != null) {
+            applyPut(id, normalizedName);
+        } else {
+            applyRemove(id);
+        }
+    }
+
+    private void applyPut(Long id, String normalizedName) {
+        applyRemove(id);
+        names.put(id, normalizedName);
+        for (String gram : gramsOf(normalizedName)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void applyRemove(Long id) {
+        String previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : gramsOf(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns ids of all foods whose name contains the query, names starting with the query first,
+     * then by the position of the match and by name length.
+     */
+    public List<Long> search(String query) {
+        String q = StringNormalizer.normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> currentNames = names;
+        Collection<Long> candidates = candidatesOf(q);
+        Map<Long, String> pending = TransactionSynchronizationManager.isSynchronizationActive() ? pendingChanges() : null;
+        if (pending != null && !pending.isEmpty()) {
+            // the current transaction sees its own uncommitted changes on top of the committed index
+            currentNames = new HashMap<>(currentNames);
+            Set<Long> merged = new HashSet<>(candidates);
+            for (Map.Entry<Long, String> change : pending.entrySet()) {
+                if (change.getValue() != null) {
+                    currentNames.put(change.getKey(), change.getValue());
+                    merged.add(change.getKey());
+                } else {
+                    currentNames.remove(change.getKey());
+                }
+            }
+            candidates = merged;
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long id : candidates) {
+            String name = currentNames.get(id);
+            int position = name != null ? name.indexOf(q) : -1;
+            if (position >= 0) {
+                matches.add(new Match(id, name, position));
+            }
+        }
+        matches.sort(MATCH_ORDER);
+        return matches.stream().map(Match::id).toList();
+    }
+
+    private Collection<Long> candidatesOf(String q) {
+        Map<String, Set<Long>> currentPostings = postings;
+        if (q.length() < GRAM) {
+            return currentPostings.getOrDefault(q, Set.of());
+        }
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : gramsOf(q, GRAM)) {
+            Set<Long> ids = currentPostings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            sets.add(ids);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sets.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Trigrams of the name together with its one and two character substrings.
+     */
+    private static Set<String> gramsOf(String name) {
+        return gramsOf(name, 1);
+    }
+
+    private static Set<String> gramsOf(String name, int shortest) {
+        Set<String> grams = new HashSet<>();
+        for (int length = shortest; length <= GRAM; length++) {
+            for (int i = 0; i + length <= name.length(); i++) {
+                grams.add(name.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private record Match(Long id, String name, int position) {
+    }
+}
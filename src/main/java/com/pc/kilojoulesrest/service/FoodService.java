@@ -20,6 +20,10 @@ public interface FoodService {
 
     FoodDto fetchFoodDtoById(Long id);
 
+    Food getFoodReference(Long id);
+
+    Food getFoodSnapshotById(Long id);
+
     FoodDto convertFoodToFoodDto(Food food);
 
     Food createFoodFromDto(FoodCreateDto dto);
@@ -36,4 +40,6 @@ public interface FoodService {
 
     Page<Food> searchFood(String query, Pageable pageable);
 
+    Page<Food> searchFoodByPrefix(String prefix, Pageable pageable);
+
 }
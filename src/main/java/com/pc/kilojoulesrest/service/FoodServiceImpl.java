@@ -6,11 +6,14 @@ import com.pc.kilojoulesrest.exception.RecordNotDeletableException;
 import com.pc.kilojoulesrest.exception.RecordNotFoundException;
 import com.pc.kilojoulesrest.model.FoodCreateDto;
 import com.pc.kilojoulesrest.model.FoodDto;
+import com.pc.kilojoulesrest.model.PortionResponseDTO;
 import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.util.StringNormalizer;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,6 +27,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 
@@ -31,16 +37,20 @@ import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 public class FoodServiceImpl implements FoodService {
     private final FoodRepository foodRepository;
     private final MealFoodService mealFoodService;
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodCatalogCache foodCatalogCache;
 
     @Autowired
-    public FoodServiceImpl(FoodRepository foodRepository, @Lazy MealFoodService mealFoodService) {
+    public FoodServiceImpl(FoodRepository foodRepository, @Lazy MealFoodService mealFoodService, FoodSearchIndex foodSearchIndex, FoodCatalogCache foodCatalogCache) {
         this.foodRepository = foodRepository;
         this.mealFoodService = mealFoodService;
+        this.foodSearchIndex = foodSearchIndex;
+        this.foodCatalogCache = foodCatalogCache;
     }
 
     @Override
     public List<Food> fetchAllFoods() {
-        return foodRepository.findAll();
+        return foodRepository.findAllWithPortions();
     }
 
     @Override
@@ -51,13 +61,61 @@ public class FoodServiceImpl implements FoodService {
 
     @Override
     public Food getFoodById(Long id) {
-        return foodRepository.findById(id).orElseThrow(() -> new RecordNotFoundException("Food record with id " + id + " does not exist!"));
+        return foodRepository.findWithPortionsById(id).orElseThrow(() -> new RecordNotFoundException("Food record with id " + id + " does not exist!"));
     }
     @Override
     public FoodDto fetchFoodDtoById(Long id) {
-        return foodRepository.findById(id)
+        return foodCatalogCache.get(id, key -> foodRepository.findWithPortionsById(key)
                 .map(FoodDto::fromEntity)
-                .orElseThrow(() -> new RecordNotFoundException("Food record with id " + id + " does not exist!"));
+                .orElseThrow(() -> new RecordNotFoundException("Food record with id " + key + " does not exist!")));
+    }
+
+    /**
+     * Returns an uninitialized reference for use as a foreign key; existence is checked against the catalog cache.
+     */
+    @Override
+    public Food getFoodReference(Long id) {
+        fetchFoodDtoById(id);
+        return foodRepository.getReferenceById(id);
+    }
+
+    /**
+     * Returns a detached copy of the food and its portions built from the catalog cache.
+     * Only for reading nutrient values, never for saving or associating.
+     */
+    @Override
+    public Food getFoodSnapshotById(Long id) {
+        FoodDto dto = fetchFoodDtoById(id);
+        Food food = Food.builder()
+                .id(dto.getId())
+                .name(dto.getName())
+                .quantity(dto.getQuantity())
+                .kiloJoules(dto.getKiloJoules())
+                .proteins(dto.getProteins())
+                .carbohydrates(dto.getCarbohydrates())
+                .fiber(dto.getFiber())
+                .sugar(dto.getSugar())
+                .fat(dto.getFat())
+                .safa(dto.getSafa())
+                .tfa(dto.getTfa())
+                .cholesterol(dto.getCholesterol())
+                .sodium(dto.getSodium())
+                .calcium(dto.getCalcium())
+                .phe(dto.getPhe())
+                .createdAt(dto.getCreatedAt())
+                .updatedAt(dto.getUpdatedAt())
+                .build();
+        List<Portion> portions = new ArrayList<>();
+        for (PortionResponseDTO portion : dto.getPortions()) {
+            portions.add(Portion.builder()
+                    .id(portion.getId())
+                    .portionName(portion.getPortionName())
+                    .portionSize(portion.getPortionSize())
+                    .food(food)
+                    .build());
+        }
+        food.setPortions(portions);
+        return food;
     }
     @Override
     public FoodDto convertFoodToFoodDto(Food food) {
@@ -99,8 +157,9 @@ public class FoodServiceImpl implements FoodService {
             builder.phe(dto.getPhe());
         }
 
-        Food food = builder.build();
-        return foodRepository.save(food);
+        Food food = foodRepository.save(builder.build());
+        foodSearchIndex.put(food.getId(), food.getName());
+        return food;
     }
 
     @Override
@@ -116,13 +175,18 @@ public class FoodServiceImpl implements FoodService {
     @Override
     public void saveFood(Food food) {
         foodRepository.save(food);
+        foodSearchIndex.put(food.getId(), food.getName());
+        foodCatalogCache.evict(food.getId());
     }
 
     @Override
     public Food updateFood(FoodDto foodDto) {
         Food existingFood = foodRepository.findById(foodDto.getId()).orElseThrow(() -> new RecordNotFoundException("Food record with id " + foodDto.getId() + " does not exist!"));
         BeanUtils.copyProperties(foodDto, existingFood, new String[] {"id", "quantity", "createdAt", "updatedAt", "portions"});
-        return foodRepository.save(existingFood);
+        Food saved = foodRepository.save(existingFood);
+        foodSearchIndex.put(saved.getId(), saved.getName());
+        foodCatalogCache.evict(saved.getId());
+        return saved;
     }
 
     @Override
@@ -135,7 +199,9 @@ public class FoodServiceImpl implements FoodService {
         portions.add(portion1);
         portions.add(portion100);
         food.setPortions(portions);
-        return foodRepository.save(food);
+        Food saved = foodRepository.save(food);
+        foodCatalogCache.evict(food.getId());
+        return saved;
     }
 
     @Override
@@ -146,6 +212,8 @@ public class FoodServiceImpl implements FoodService {
         }
         Food food = foodRepository.findById(id).orElseThrow(() -> new RecordNotFoundException("Food record with id " + id + " does not exist!"));
         foodRepository.delete(food);
+        foodSearchIndex.remove(id);
+        foodCatalogCache.evict(id);
         return food;
     }
 
@@ -154,6 +222,24 @@ public class FoodServiceImpl implements FoodService {
 //        if (query == null || query.length() < 3) {
 //            throw new IllegalArgumentException("Query must contain at least 3 characters!");
 //        }
-        return foodRepository.findAllByNameContainsIgnoreCase(query, pageable);
+        if (!foodSearchIndex.isReady()) {
+            return foodRepository.findAllByNameNormalizedContaining(StringNormalizer.normalize(query), pageable);
+        }
+        List<Long> ids = foodSearchIndex.search(query);
+        List<Long> pageIds = pageable.isPaged()
+                ? ids.subList((int) Math.min(pageable.getOffset(), ids.size()), (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ids.size()))
+                : ids;
+        Map<Long, Food> foodsById = foodRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Food::getId, Function.identity()));
+        List<Food> foods = pageIds.stream()
+                .map(foodsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(foods, pageable, ids.size());
+    }
+
+    @Override
+    public Page<Food> searchFoodByPrefix(String prefix, Pageable pageable) {
+        return foodRepository.findAllByNameNormalizedStartingWith(StringNormalizer.normalize(prefix), pageable);
     }
 }
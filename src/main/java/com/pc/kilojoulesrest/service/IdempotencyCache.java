@@ -0,0 +1,99 @@
+package com.pc.kilojoulesrest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pc.kilojoulesrest.exception.IdempotencyKeyInProgressException;
+import com.pc.kilojoulesrest.exception.IdempotencyKeyReusedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the responses of recent writes by the client supplied {@code Idempotency-Key}, per user, for
+ * {@code journal.idempotency.ttl}. A retry with the same key and request gets the first response back without
+ * running the write again; a retry arriving while the first request is still running waits for its response up to
+ * {@code journal.idempotency.replay-wait} and is then answered 409 with a {@code Retry-After}. Server errors are not remembered, so a failed write can be retried with the same key.
+ */
+@Component
+public class IdempotencyCache {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> cache;
+    private final Duration replayWait;
+
+    public IdempotencyCache(@Value("${journal.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${journal.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${journal.idempotency.replay-wait:10s}") Duration replayWait) {
+        this.replayWait = replayWait;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public ResponseEntity<?> execute(Long userId, String idempotencyKey, Object request, Supplier<ResponseEntity<?>> write) {
+        if (idempotencyKey == null) {
+            return write.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters long.");
+        }
+        String key = userId + ":" + idempotencyKey;
+        Entry entry = new Entry(request, new CompletableFuture<>());
+        Entry existing = cache.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            return replay(existing, request);
+        }
+        try {
+            ResponseEntity<?> response = write.get();
+            if (response.getStatusCode().is5xxServerError()) {
+                cache.asMap().remove(key, entry);
+            }
+            entry.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> replay(Entry existing, Object request) {
+        if (!Objects.equals(existing.request(), request)) {
+            throw new IdempotencyKeyReusedException(HEADER + " was already used for a different request.");
+        }
+        ResponseEntity<?> response;
+        try {
+            response = existing.response().get(replayWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(HEADER + " is still being processed by an earlier request.", replayWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(HEADER + " is still being processed by an earlier request.", replayWait);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return ResponseEntity.status(response.getStatusCode()).headers(headers).body(response.getBody());
+    }
+
+    private record Entry(Object request, CompletableFuture<ResponseEntity<?>> response) {
+    }
+}
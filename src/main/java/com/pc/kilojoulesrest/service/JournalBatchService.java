@@ -0,0 +1,12 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalBatchEntryDTO;
+import com.pc.kilojoulesrest.model.JournalBatchResultDTO;
+
+import java.util.List;
+
+public interface JournalBatchService {
+
+    List<JournalBatchResultDTO> addEntriesToJournal(List<JournalBatchEntryDTO> entries, User user);
+}
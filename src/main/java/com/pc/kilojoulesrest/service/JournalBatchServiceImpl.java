@@ -0,0 +1,125 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.model.JournalBatchEntryDTO;
+import com.pc.kilojoulesrest.model.JournalBatchResultDTO;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.MealRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes many journal entries in one transaction. All referenced foods and meals are loaded up front with one query
+ * each, and the journal foods and meals, whose ids come from sequences, are queued before the first journal row is
+ * inserted, so their inserts go out as JDBC batches.
+ */
+@Service
+public class JournalBatchServiceImpl implements JournalBatchService {
+
+    private final FoodRepository foodRepository;
+    private final MealRepository mealRepository;
+    private final JournalRepository journalRepository;
+    private final JournalFoodService journalFoodService;
+    private final JournalMealService journalMealService;
+
+    public JournalBatchServiceImpl(FoodRepository foodRepository, MealRepository mealRepository, JournalRepository journalRepository,
+                                   JournalFoodService journalFoodService, JournalMealService journalMealService) {
+        this.foodRepository = foodRepository;
+        this.mealRepository = mealRepository;
+        this.journalRepository = journalRepository;
+        this.journalFoodService = journalFoodService;
+        this.journalMealService = journalMealService;
+    }
+
+    @Override
+    @Transactional
+    public List<JournalBatchResultDTO> addEntriesToJournal(List<JournalBatchEntryDTO> entries, User user) {
+        Map<Long, Food> foodsById = foodRepository.findAllById(collectIds(entries, JournalBatchEntryDTO::getFoodId)).stream()
+                .collect(Collectors.toMap(Food::getId, Function.identity()));
+        Set<Long> mealIds = collectIds(entries, JournalBatchEntryDTO::getMealId);
+        Map<Long, Meal> mealsById = mealIds.isEmpty() ? Map.of() : mealRepository.findAllByIdInAndUser(mealIds, user).stream()
+                .collect(Collectors.toMap(Meal::getId, Function.identity()));
+
+        JournalBatchResultDTO[] results = new JournalBatchResultDTO[entries.size()];
+        Map<Integer, Journal> journals = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            JournalBatchEntryDTO entry = entries.get(i);
+            try {
+                journals.put(i, buildJournal(entry, foodsById, mealsById, user));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                results[i] = rejected(i, HttpStatus.BAD_REQUEST, e.getMessage());
+            } catch (NoSuchElementException e) {
+                results[i] = rejected(i, HttpStatus.NOT_FOUND, e.getMessage());
+            }
+        }
+
+        journalRepository.saveAll(journals.values());
+        journals.forEach((index, journal) -> results[index] = JournalBatchResultDTO.builder()
+                .index(index)
+                .status(HttpStatus.CREATED.value())
+                .journalId(journal.getId())
+                .build());
+        return Arrays.asList(results);
+    }
+
+    private Journal buildJournal(JournalBatchEntryDTO entry, Map<Long, Food> foodsById, Map<Long, Meal> mealsById, User user) {
+        if ((entry.getFoodId() == null) == (entry.getMealId() == null)) {
+            throw new IllegalArgumentException("Exactly one of foodId and mealId must be given.");
+        }
+        LocalDate consumedAt = LocalDate.parse(entry.getConsumedAt());
+        MealType mealType = parseMealType(entry.getMealType());
+        Journal.JournalBuilder journal = Journal.builder()
+                .consumedAt(consumedAt)
+                .mealType(mealType)
+                .user(user);
+
+        if (entry.getFoodId() != null) {
+            Food food = foodsById.get(entry.getFoodId());
+            if (food == null) {
+                throw new NoSuchElementException("Food record with id " + entry.getFoodId() + " does not exist!");
+            }
+            if (entry.getQuantity() == null) {
+                throw new IllegalArgumentException("Quantity must be given for a food entry.");
+            }
+            String foodName = entry.getFoodName() != null && !entry.getFoodName().isBlank() ? entry.getFoodName() : food.getName();
+            return journal.journalFood(journalFoodService.createJournalFood(food, entry.getQuantity(), foodName)).build();
+        }
+
+        Meal meal = mealsById.get(entry.getMealId());
+        if (meal == null) {
+            throw new NoSuchElementException("Meal record with id " + entry.getMealId() + " does not exist!");
+        }
+        return journal.journalMeal(journalMealService.convertMealToJournalMeal(meal)).build();
+    }
+
+    private static MealType parseMealType(String mealType) {
+        try {
+            return MealType.valueOf(mealType);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid meal type: " + mealType + ". Allowed values are " + Arrays.toString(MealType.values()) + ".");
+        }
+    }
+
+    private static JournalBatchResultDTO rejected(int index, HttpStatus status, String error) {
+        return JournalBatchResultDTO.builder()
+                .index(index)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+
+    private static Set<Long> collectIds(List<JournalBatchEntryDTO> entries, Function<JournalBatchEntryDTO, Long> id) {
+        return entries.stream()
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,113 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Journal;
+import com.pc.kilojoulesrest.entity.JournalEntry;
+import com.pc.kilojoulesrest.entity.JournalEntryTotals;
+import com.pc.kilojoulesrest.entity.JournalFood;
+import com.pc.kilojoulesrest.entity.JournalMeal;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Keeps the daily nutrition summary and the journal versions in step with journal entries being added, edited and
+ * removed. Loaded journals remember the day and meal type, loaded journal foods and meals the totals they are counted
+ * with. Writes are collected per transaction and applied once the session has been flushed for the commit. The work
+ * is queued on Hibernate's action queue rather than as a Spring {@code beforeCommit} callback, because edits of loaded
+ * entries often reach the database only in that last flush, after Spring has already run its callbacks.
+ */
+@Component
+public class JournalChangeListener {
+
+    private static final Object CHANGES_KEY = JournalChangeListener.class.getName() + ".changes";
+
+    private final ObjectProvider<DailyNutritionSummaryService> dailyNutritionSummaryService;
+    private final ObjectProvider<JournalVersionService> journalVersionService;
+    private final ObjectProvider<EntityManager> entityManager;
+
+    public JournalChangeListener(ObjectProvider<DailyNutritionSummaryService> dailyNutritionSummaryService, ObjectProvider<JournalVersionService> journalVersionService, ObjectProvider<EntityManager> entityManager) {
+        this.dailyNutritionSummaryService = dailyNutritionSummaryService;
+        this.journalVersionService = journalVersionService;
+        this.entityManager = entityManager;
+    }
+
+    @PostLoad
+    public void entityLoaded(Object entity) {
+        if (entity instanceof Journal journal) {
+            journal.setCountedConsumedAt(journal.getConsumedAt());
+            journal.setCountedMealType(journal.getMealType());
+        } else if (entity instanceof JournalEntry entry) {
+            entry.setCountedTotals(JournalEntryTotals.of(entry));
+        }
+    }
+
+    @PostPersist
+    public void entityPersisted(Object entity) {
+        if (entity instanceof Journal journal) {
+            record(changes -> changes.getJournals().add(journal));
+        }
+    }
+
+    @PostUpdate
+    public void entityUpdated(Object entity) {
+        if (entity instanceof Journal journal) {
+            record(changes -> changes.getJournals().add(journal));
+        } else if (entity instanceof JournalFood journalFood) {
+            record(changes -> changes.getJournalFoodIds().add(journalFood.getId()));
+        } else if (entity instanceof JournalMeal journalMeal) {
+            record(changes -> changes.getJournalMealIds().add(journalMeal.getId()));
+        }
+    }
+
+    @PreRemove
+    public void entityRemoved(Object entity) {
+        if (entity instanceof Journal journal) {
+            record(changes -> {
+                changes.getJournals().add(journal);
+                changes.getRemovedJournals().add(journal);
+            });
+        }
+    }
+
+    private void record(Consumer<JournalChanges> change) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        JournalChanges changes = inTransaction ? currentChanges() : new JournalChanges();
+        change.accept(changes);
+        if (!inTransaction) {
+            applyChanges(changes);
+        }
+    }
+
+    private JournalChanges currentChanges() {
+        JournalChanges changes = (JournalChanges) TransactionSynchronizationManager.getResource(CHANGES_KEY);
+        if (changes != null) {
+            return changes;
+        }
+        JournalChanges created = new JournalChanges();
+        TransactionSynchronizationManager.bindResource(CHANGES_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CHANGES_KEY);
+            }
+        });
+        entityManager.getObject().unwrap(SessionImplementor.class).getActionQueue()
+                .registerProcess((BeforeTransactionCompletionProcess) session -> applyChanges(created));
+        return created;
+    }
+
+    private void applyChanges(JournalChanges changes) {
+        dailyNutritionSummaryService.ifAvailable(service -> service.applyChanges(changes));
+        journalVersionService.ifAvailable(service -> service.applyChanges(changes));
+    }
+}
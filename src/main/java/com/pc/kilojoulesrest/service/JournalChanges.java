@@ -0,0 +1,26 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Journal;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Journal writes of one transaction that the daily nutrition summary and the journal versions have to follow.
+ * Journal foods and meals do not know their journal entry, the entries are looked up once when the changes are applied.
+ */
+@Getter
+public class JournalChanges {
+
+    private final Set<Journal> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Journal> removedJournals = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Long> journalFoodIds = new HashSet<>();
+    private final Set<Long> journalMealIds = new HashSet<>();
+
+    public boolean isEmpty() {
+        return journals.isEmpty() && journalFoodIds.isEmpty() && journalMealIds.isEmpty();
+    }
+}
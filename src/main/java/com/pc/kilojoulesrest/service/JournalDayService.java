@@ -0,0 +1,10 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.model.JournalEntryWithTotalsDto;
+
+import java.time.LocalDate;
+
+public interface JournalDayService {
+
+    JournalEntryWithTotalsDto fetchJournalDay(Long userId, LocalDate date);
+}
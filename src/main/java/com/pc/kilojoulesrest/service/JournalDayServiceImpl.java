@@ -0,0 +1,76 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.MealType;
+import com.pc.kilojoulesrest.model.JournalEntryDTO;
+import com.pc.kilojoulesrest.model.JournalEntryWithTotalsDto;
+import com.pc.kilojoulesrest.model.MealTypeTotalsDTO;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.util.NutrientVector;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class JournalDayServiceImpl implements JournalDayService {
+
+    private final JournalRepository journalRepository;
+
+    public JournalDayServiceImpl(JournalRepository journalRepository) {
+        this.journalRepository = journalRepository;
+    }
+
+    /**
+     * Builds the whole day from one projection query, day and meal type totals are summed from the same rows.
+     */
+    @Override
+    public JournalEntryWithTotalsDto fetchJournalDay(Long userId, LocalDate date) {
+        List<JournalEntryDTO> entries = journalRepository.findDayEntriesByUserId(userId, date);
+
+        JournalEntryWithTotalsDto day = new JournalEntryWithTotalsDto();
+        day.setDate(date);
+        day.setEntries(entries);
+
+        NutrientVector dayTotals = new NutrientVector();
+        Map<MealType, NutrientVector> byMealType = new EnumMap<>(MealType.class);
+        for (JournalEntryDTO entry : entries) {
+            addEntry(dayTotals, entry);
+            if (entry.getMealType() != null) {
+                addEntry(byMealType.computeIfAbsent(entry.getMealType(), mealType -> new NutrientVector()), entry);
+            }
+        }
+
+        day.setTotalQuantity(dayTotals.get(NutrientVector.QUANTITY));
+        day.setTotalKiloJoules(dayTotals.get(NutrientVector.KILOJOULES));
+        day.setTotalProteins(dayTotals.get(NutrientVector.PROTEINS));
+        day.setTotalCarbohydrates(dayTotals.get(NutrientVector.CARBOHYDRATES));
+        day.setTotalFiber(dayTotals.get(NutrientVector.FIBER));
+        day.setTotalFat(dayTotals.get(NutrientVector.FAT));
+
+        List<MealTypeTotalsDTO> mealTypeTotals = new ArrayList<>();
+        byMealType.forEach((mealType, vector) -> {
+            MealTypeTotalsDTO totals = new MealTypeTotalsDTO(mealType);
+            totals.setTotalQuantity(vector.get(NutrientVector.QUANTITY));
+            totals.setTotalKiloJoules(vector.get(NutrientVector.KILOJOULES));
+            totals.setTotalProteins(vector.get(NutrientVector.PROTEINS));
+            totals.setTotalCarbohydrates(vector.get(NutrientVector.CARBOHYDRATES));
+            totals.setTotalFiber(vector.get(NutrientVector.FIBER));
+            totals.setTotalFat(vector.get(NutrientVector.FAT));
+            mealTypeTotals.add(totals);
+        });
+        day.setMealTypeTotals(mealTypeTotals);
+        return day;
+    }
+
+    private void addEntry(NutrientVector vector, JournalEntryDTO entry) {
+        vector.add(NutrientVector.QUANTITY, entry.getQuantity())
+                .add(NutrientVector.KILOJOULES, entry.getKiloJoules())
+                .add(NutrientVector.PROTEINS, entry.getProteins())
+                .add(NutrientVector.CARBOHYDRATES, entry.getCarbohydrates())
+                .add(NutrientVector.FIBER, entry.getFiber())
+                .add(NutrientVector.FAT, entry.getFat());
+    }
+}
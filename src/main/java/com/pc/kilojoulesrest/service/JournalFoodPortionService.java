@@ -1,8 +0,0 @@
-package com.pc.kilojoulesrest.service;
-
-import com.pc.kilojoulesrest.entity.JournalFoodPortion;
-
-public interface JournalFoodPortionService {
-
-    void saveJfp(JournalFoodPortion jfp);
-}
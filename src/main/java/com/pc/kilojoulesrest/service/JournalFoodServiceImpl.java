@@ -2,7 +2,6 @@ package com.pc.kilojoulesrest.service;
 
 import com.pc.kilojoulesrest.entity.Food;
 import com.pc.kilojoulesrest.entity.JournalFood;
-import com.pc.kilojoulesrest.entity.JournalFoodPortion;
 import com.pc.kilojoulesrest.repository.JournalFoodRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -12,9 +11,7 @@ import org.springframework.validation.FieldError;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 
@@ -22,15 +19,19 @@ import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 public class JournalFoodServiceImpl implements JournalFoodService {
 
     private final JournalFoodRepository journalFoodRepository;
-    private final JournalFoodPortionService journalFoodPortionService;
+    private final PortionSetService portionSetService;
 
     @Autowired
-    public JournalFoodServiceImpl(JournalFoodRepository journalFoodRepository, JournalFoodPortionService journalFoodPortionService) {
+    public JournalFoodServiceImpl(JournalFoodRepository journalFoodRepository, PortionSetService portionSetService) {
         this.journalFoodRepository = journalFoodRepository;
-        this.journalFoodPortionService = journalFoodPortionService;
+        this.portionSetService = portionSetService;
     }
 
 
+    /**
+     * Copies the food into a journal food and saves it once. The portions are not copied, the journal food references
+     * the shared portion set with the same content.
+     */
     @Override
     public JournalFood createJournalFood(Food food, BigDecimal quantity, String foodName){
         JournalFood jf = JournalFood.builder()
@@ -48,18 +49,8 @@ public class JournalFoodServiceImpl implements JournalFoodService {
                 .sodium(food.getSodium().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP))
                 .calcium(food.getCalcium().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP))
                 .phe(food.getPhe().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP))
+                .portionSet(portionSetService.resolvePortionSet(food.getPortions()))
                 .build();
-        JournalFood finalJf = journalFoodRepository.save(jf);
-        List<JournalFoodPortion> portionList = food.getPortions().stream().map(portion -> {
-            JournalFoodPortion jfp = JournalFoodPortion.builder()
-                    .portionName(portion.getPortionName())
-                    .portionSize(portion.getPortionSize())
-                    .journalFood(finalJf)
-                    .build();
-            journalFoodPortionService.saveJfp(jfp);
-            return jfp;
-        }).collect(Collectors.toList());
-        jf.setPortions(portionList);
         return journalFoodRepository.save(jf);
     }
 
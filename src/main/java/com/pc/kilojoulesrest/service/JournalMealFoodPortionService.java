@@ -1,9 +0,0 @@
-package com.pc.kilojoulesrest.service;
-
-import com.pc.kilojoulesrest.entity.JournalMealFoodPortion;
-
-public interface JournalMealFoodPortionService {
-
-    void saveJmfp(JournalMealFoodPortion jmfp);
-
-}
@@ -3,7 +3,6 @@ package com.pc.kilojoulesrest.service;
 import com.pc.kilojoulesrest.entity.Food;
 import com.pc.kilojoulesrest.entity.JournalMeal;
 import com.pc.kilojoulesrest.entity.JournalMealFood;
-import com.pc.kilojoulesrest.entity.JournalMealFoodPortion;
 import com.pc.kilojoulesrest.exception.RecordNotFoundException;
 import com.pc.kilojoulesrest.repository.JournalMealFoodRepository;
 import org.springframework.context.annotation.Lazy;
@@ -12,8 +11,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
 
@@ -22,13 +19,13 @@ public class JournalMealFoodServiceImpl implements JournalMealFoodService {
 
     private final JournalMealFoodRepository journalMealFoodRepository;
     private final JournalMealService journalMealService;
-    private final JournalMealFoodPortionService journalMealFoodPortionService;
+    private final PortionSetService portionSetService;
 
 
-    public JournalMealFoodServiceImpl(JournalMealFoodRepository journalMealFoodRepository, @Lazy JournalMealService journalMealService, JournalMealFoodPortionService journalMealFoodPortionService) {
+    public JournalMealFoodServiceImpl(JournalMealFoodRepository journalMealFoodRepository, @Lazy JournalMealService journalMealService, PortionSetService portionSetService) {
         this.journalMealFoodRepository = journalMealFoodRepository;
         this.journalMealService = journalMealService;
-        this.journalMealFoodPortionService = journalMealFoodPortionService;
+        this.portionSetService = portionSetService;
     }
 
     @Override
@@ -54,18 +51,8 @@ public class JournalMealFoodServiceImpl implements JournalMealFoodService {
                 .sodium(food.getSodium().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP))
                 .calcium(food.getCalcium().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP))
                 .phe(food.getPhe().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP))
+                .portionSet(portionSetService.resolvePortionSet(food.getPortions()))
                 .build();
-        JournalMealFood finalJmf = journalMealFoodRepository.save(jmf);
-        List<JournalMealFoodPortion> portionList = food.getPortions().stream().map(portion -> {
-            JournalMealFoodPortion jmfp = JournalMealFoodPortion.builder()
-                    .portionName(portion.getPortionName())
-                    .portionSize(portion.getPortionSize())
-                    .journalMealFood(finalJmf)
-                    .build();
-            journalMealFoodPortionService.saveJmfp(jmfp);
-            return jmfp;
-        }).collect(Collectors.toList());
-        jmf.setPortions(portionList);
         return journalMealFoodRepository.save(jmf);
     }
 
@@ -3,6 +3,7 @@ package com.pc.kilojoulesrest.service;
 import com.pc.kilojoulesrest.entity.*;
 import com.pc.kilojoulesrest.exception.RecordNotFoundException;
 import com.pc.kilojoulesrest.repository.JournalMealRepository;
+import com.pc.kilojoulesrest.util.NutrientVector;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
@@ -11,10 +12,8 @@ import org.springframework.validation.FieldError;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
@@ -24,14 +23,12 @@ public class JournalMealServiceImpl implements JournalMealService {
 
     private final JournalMealRepository journalMealRepository;
     private final JournalService journalService;
-    private final JournalMealFoodService journalMealFoodService;
-    private final JournalMealFoodPortionService journalMealFoodPortionService;
+    private final PortionSetService portionSetService;
 
-    public JournalMealServiceImpl(JournalMealRepository journalMealRepository, JournalService journalService, JournalMealFoodService journalMealFoodService, JournalMealFoodPortionService journalMealFoodPortionService) {
+    public JournalMealServiceImpl(JournalMealRepository journalMealRepository, JournalService journalService, PortionSetService portionSetService) {
         this.journalMealRepository = journalMealRepository;
         this.journalService = journalService;
-        this.journalMealFoodService = journalMealFoodService;
-        this.journalMealFoodPortionService = journalMealFoodPortionService;
+        this.portionSetService = portionSetService;
     }
 
     @Override
@@ -43,6 +40,10 @@ public class JournalMealServiceImpl implements JournalMealService {
         return errors;
     }
 
+    /**
+     * Builds the whole snapshot in memory and persists it with a single cascaded save, so the meal and its foods
+     * go out as batched inserts at flush instead of one statement per row. Portions reference shared portion sets.
+     */
     @Override
     @Transactional
     public JournalMeal convertMealToJournalMeal(Meal meal) {
@@ -51,7 +52,6 @@ public class JournalMealServiceImpl implements JournalMealService {
                 .mealName(meal.getMealName())
                 .saved(true)
                 .build();
-        journalMealRepository.save(journalMeal);
 
         Set<JournalMealFood> jmfSet = meal.getMealFoods().stream()
                 .map(mealFood -> createJournalMealFoodFromMealFood(mealFood, journalMeal))
@@ -82,41 +82,29 @@ public class JournalMealServiceImpl implements JournalMealService {
         jmf.setCalcium(food.getCalcium().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP));
         jmf.setPhe(food.getPhe().multiply(quantity).divide(ONE_HUNDRED, RoundingMode.HALF_UP));
         jmf.setJournalMeal(journalMeal);
-        jmf = journalMealFoodService.saveJournalMealFood(jmf);
-        final JournalMealFood finalJmf = jmf;
-
-        List<JournalMealFoodPortion> portionList = food.getPortions().stream().map(portion -> {
-            JournalMealFoodPortion jmfp = JournalMealFoodPortion.builder()
-                    .portionName(portion.getPortionName())
-                    .portionSize(portion.getPortionSize())
-                    .journalMealFood(finalJmf)
-                    .build();
-            journalMealFoodPortionService.saveJmfp(jmfp);
-            return jmfp;
-        }).collect(Collectors.toList());
-        jmf.setPortions(portionList);
-        return journalMealFoodService.saveJournalMealFood(jmf);
+        jmf.setPortionSet(portionSetService.resolvePortionSet(food.getPortions()));
+        return jmf;
     }
 
     @Override
     public void calculateAndSetTotalFieldsFromSet(JournalMeal journalMeal, Set<JournalMealFood> jmfSet) {
-        journalMeal.setQuantity(totalField(jmfSet, JournalMealFood::getQuantity));
-        journalMeal.setKiloJoules(totalField(jmfSet, JournalMealFood::getKiloJoules));
-        journalMeal.setProteins(totalField(jmfSet, JournalMealFood::getProteins));
-        journalMeal.setCarbohydrates(totalField(jmfSet, JournalMealFood::getCarbohydrates));
-        journalMeal.setFiber(totalField(jmfSet, JournalMealFood::getFiber));
-        journalMeal.setFat(totalField(jmfSet, JournalMealFood::getFat));
-        journalMeal.setSugar(totalField(jmfSet, JournalMealFood::getSugar));
-        journalMeal.setSafa(totalField(jmfSet, JournalMealFood::getSafa));
-        journalMeal.setTfa(totalField(jmfSet, JournalMealFood::getTfa));
-        journalMeal.setCholesterol(totalField(jmfSet, JournalMealFood::getCholesterol));
-        journalMeal.setSodium(totalField(jmfSet, JournalMealFood::getSodium));
-        journalMeal.setCalcium(totalField(jmfSet, JournalMealFood::getCalcium));
-        journalMeal.setPhe(totalField(jmfSet, JournalMealFood::getPhe));
-    }
-
-    private BigDecimal totalField(Set<JournalMealFood> jmSet, Function<JournalMealFood, BigDecimal> function) {
-        return jmSet.stream().map(function).reduce(BigDecimal.ZERO, BigDecimal::add);
+        NutrientVector total = new NutrientVector();
+        for (JournalMealFood jmf : jmfSet) {
+            total.add(jmf);
+        }
+        journalMeal.setQuantity(total.get(NutrientVector.QUANTITY));
+        journalMeal.setKiloJoules(total.get(NutrientVector.KILOJOULES));
+        journalMeal.setProteins(total.get(NutrientVector.PROTEINS));
+        journalMeal.setCarbohydrates(total.get(NutrientVector.CARBOHYDRATES));
+        journalMeal.setFiber(total.get(NutrientVector.FIBER));
+        journalMeal.setFat(total.get(NutrientVector.FAT));
+        journalMeal.setSugar(total.get(NutrientVector.SUGAR));
+        journalMeal.setSafa(total.get(NutrientVector.SAFA));
+        journalMeal.setTfa(total.get(NutrientVector.TFA));
+        journalMeal.setCholesterol(total.get(NutrientVector.CHOLESTEROL));
+        journalMeal.setSodium(total.get(NutrientVector.SODIUM));
+        journalMeal.setCalcium(total.get(NutrientVector.CALCIUM));
+        journalMeal.setPhe(total.get(NutrientVector.PHE));
     }
 
     @Override
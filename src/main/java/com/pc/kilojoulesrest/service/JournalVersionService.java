@@ -0,0 +1,10 @@
+package com.pc.kilojoulesrest.service;
+
+public interface JournalVersionService {
+
+    void applyChanges(JournalChanges changes);
+
+    void incrementJournalVersion(Long userId);
+
+    long fetchJournalVersion(Long userId);
+}
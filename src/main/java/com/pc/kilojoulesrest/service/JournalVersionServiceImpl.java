@@ -0,0 +1,62 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Journal;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.JournalVersionRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class JournalVersionServiceImpl implements JournalVersionService {
+
+    private final JournalVersionRepository journalVersionRepository;
+    private final JournalRepository journalRepository;
+    private final EntityManager entityManager;
+
+    public JournalVersionServiceImpl(JournalVersionRepository journalVersionRepository, JournalRepository journalRepository, EntityManager entityManager) {
+        this.journalVersionRepository = journalVersionRepository;
+        this.journalRepository = journalRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Flushes first so that changes still pending in the persistence context are recorded too, then bumps every
+     * affected user once, in id order to keep concurrent transactions from locking the rows the other way round.
+     */
+    @Override
+    @Transactional
+    public void applyChanges(JournalChanges changes) {
+        entityManager.flush();
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = new TreeSet<>();
+        for (Journal journal : changes.getJournals()) {
+            if (journal.getUser() != null) {
+                userIds.add(journal.getUser().getId());
+            }
+        }
+        if (!changes.getJournalFoodIds().isEmpty()) {
+            userIds.addAll(journalRepository.findUserIdsByJournalFoodIdIn(changes.getJournalFoodIds()));
+        }
+        if (!changes.getJournalMealIds().isEmpty()) {
+            userIds.addAll(journalRepository.findUserIdsByJournalMealIdIn(changes.getJournalMealIds()));
+        }
+        userIds.forEach(this::incrementJournalVersion);
+    }
+
+    @Override
+    @Transactional
+    public void incrementJournalVersion(Long userId) {
+        journalVersionRepository.incrementVersion(userId);
+    }
+
+    @Override
+    public long fetchJournalVersion(Long userId) {
+        return journalVersionRepository.findVersionByUserId(userId).orElse(0L);
+    }
+}
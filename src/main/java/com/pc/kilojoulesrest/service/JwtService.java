@@ -1,8 +1,10 @@
 package com.pc.kilojoulesrest.service;
 
+import com.pc.kilojoulesrest.config.UserInfoUserDetails;
 import com.pc.kilojoulesrest.entity.User;
 import com.pc.kilojoulesrest.repository.UserRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -15,7 +17,6 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
@@ -26,34 +27,39 @@ public class JwtService {
 
     public static final int accessTokenExpirationTime = 1000*60*30;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
+    // the key and the parser are immutable and thread-safe, so they are built once
+    private final Key signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signKey)
+            .build();
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
+    /**
+     * Verifies the signature and parses the token. Throws ExpiredJwtException for an expired token,
+     * the returned claims can be used for all further checks of the same request.
+     */
+    public Claims extractAllClaims(String token) {
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Builds the principal from the verified claims of the token, without loading the user.
+     */
+    public UserInfoUserDetails extractUserDetails(Claims claims) {
+        return new UserInfoUserDetails(
+                Long.valueOf(claims.get("userId", String.class)),
+                claims.getSubject(),
+                claims.get("role", String.class));
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        if(isTokenExpired(token)) return false;
-        final String username = extractUsername(token);
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        if(isTokenExpired(claims)) return false;
+        final String username = claims.getSubject();
 
         return (username.equals(userDetails.getUsername()));
     }
@@ -71,11 +77,6 @@ public class JwtService {
                 .setClaims(claims).setSubject(userName)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpirationTime))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256).compact();
-    }
-
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+                .signWith(signKey, SignatureAlgorithm.HS256).compact();
     }
 }
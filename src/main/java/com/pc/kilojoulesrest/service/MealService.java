@@ -41,5 +41,7 @@ public interface MealService {
 
     Page<Meal> searchMeal(User user, String query, Pageable pageable);
 
+    Page<Meal> searchMealByPrefix(User user, String prefix, Pageable pageable);
+
     boolean existsMealByIdAndUser(Long mealId, User user);
 }
@@ -9,6 +9,8 @@ import com.pc.kilojoulesrest.model.MealDTO;
 import com.pc.kilojoulesrest.model.MealFoodDTO;
 import com.pc.kilojoulesrest.model.MealFormDTO;
 import com.pc.kilojoulesrest.repository.MealRepository;
+import com.pc.kilojoulesrest.util.NutrientVector;
+import com.pc.kilojoulesrest.util.StringNormalizer;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -90,7 +92,7 @@ public class MealServiceImpl implements MealService {
                     MealFood mf = new MealFood();
                     mf.setMeal(meal);
                     mf.setQuantity(savedQuantity);
-                    Food food = foodService.getFoodById(foodId);
+                    Food food = foodService.getFoodReference(foodId);
                     mf.setFood(food);
                     return mealFoodService.saveMealFood(mf);
                 })
@@ -170,12 +172,21 @@ public class MealServiceImpl implements MealService {
     }
     @Override
     public void sumUpMealFoods(MealDTO mealDTO, List<MealFoodDTO> mealFoodsDTO) {
-        mealDTO.setSumQuantity(mealFoodsDTO.stream().map(MealFoodDTO::getQuantity).reduce(BigDecimal.ZERO,BigDecimal::add));
-        mealDTO.setSumAdjustedKiloJoules(mealFoodsDTO.stream().map(MealFoodDTO::getAdjustedKiloJoules).reduce(BigDecimal.ZERO,BigDecimal::add));
-        mealDTO.setSumAdjustedProteins(mealFoodsDTO.stream().map(MealFoodDTO::getAdjustedProteins).reduce(BigDecimal.ZERO,BigDecimal::add));
-        mealDTO.setSumAdjustedCarbohydrates(mealFoodsDTO.stream().map(MealFoodDTO::getAdjustedCarbohydrates).reduce(BigDecimal.ZERO,BigDecimal::add));
-        mealDTO.setSumAdjustedFiber(mealFoodsDTO.stream().map(MealFoodDTO::getAdjustedFiber).reduce(BigDecimal.ZERO,BigDecimal::add));
-        mealDTO.setSumAdjustedFat(mealFoodsDTO.stream().map(MealFoodDTO::getAdjustedFat).reduce(BigDecimal.ZERO,BigDecimal::add));
+        NutrientVector sum = new NutrientVector();
+        for (MealFoodDTO dto : mealFoodsDTO) {
+            sum.add(NutrientVector.QUANTITY, dto.getQuantity())
+                    .add(NutrientVector.KILOJOULES, dto.getAdjustedKiloJoules())
+                    .add(NutrientVector.PROTEINS, dto.getAdjustedProteins())
+                    .add(NutrientVector.CARBOHYDRATES, dto.getAdjustedCarbohydrates())
+                    .add(NutrientVector.FIBER, dto.getAdjustedFiber())
+                    .add(NutrientVector.FAT, dto.getAdjustedFat());
+        }
+        mealDTO.setSumQuantity(sum.get(NutrientVector.QUANTITY));
+        mealDTO.setSumAdjustedKiloJoules(sum.get(NutrientVector.KILOJOULES));
+        mealDTO.setSumAdjustedProteins(sum.get(NutrientVector.PROTEINS));
+        mealDTO.setSumAdjustedCarbohydrates(sum.get(NutrientVector.CARBOHYDRATES));
+        mealDTO.setSumAdjustedFiber(sum.get(NutrientVector.FIBER));
+        mealDTO.setSumAdjustedFat(sum.get(NutrientVector.FAT));
     }
 
     @Override
@@ -204,7 +215,12 @@ public class MealServiceImpl implements MealService {
 //        if (query == null || query.length() < 3) {
 //            throw new IllegalArgumentException("Query must contain at least 3 characters!");
 //        }
-        return mealRepository.findAllByUserAndMealNameContainsIgnoreCase(user, query, pageable);
+        return mealRepository.findAllByUserAndMealNameNormalizedContaining(user, StringNormalizer.normalize(query), pageable);
+    }
+
+    @Override
+    public Page<Meal> searchMealByPrefix(User user, String prefix, Pageable pageable) {
+        return mealRepository.findAllByUserAndMealNameNormalizedStartingWith(user, StringNormalizer.normalize(prefix), pageable);
     }
 
     @Override
@@ -11,6 +11,7 @@ import com.pc.kilojoulesrest.model.PortionResponseDTO;
 import com.pc.kilojoulesrest.repository.PortionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 
@@ -82,7 +83,12 @@ public class PortionServiceImpl implements PortionService {
         return newPortion;
     }
 
+    /**
+     * Runs in one transaction, so the food catalog entry evicted by saveFood is evicted again only after the
+     * portion is deleted too.
+     */
     @Override
+    @Transactional
     public void deletePortionById(Long id) throws RecordNotDeletableException {
         Portion portion = portionRepository.findById(id).orElseThrow(()-> new RecordNotFoundException("Portion record with id \" + id + \" does not exist!"));
         if(portion.getPortionName().equals("100 g") || portion.getPortionName().equals("1 g")) {
@@ -0,0 +1,13 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.entity.PortionSet;
+
+import java.util.List;
+
+public interface PortionSetService {
+
+    PortionSet resolvePortionSet(List<Portion> portions);
+
+    String calculateHash(List<Portion> portions);
+}
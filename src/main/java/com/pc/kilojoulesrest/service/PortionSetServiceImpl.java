@@ -0,0 +1,122 @@
+package com.pc.kilojoulesrest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.entity.PortionSet;
+import com.pc.kilojoulesrest.entity.PortionSnapshot;
+import com.pc.kilojoulesrest.repository.PortionSetRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Content addressed store of journal portion snapshots. The portions are put in canonical order, by size and name,
+ * then hashed and stored in that same order, so every entry referencing a set sees its portions in one order.
+ * Journal entries reference the set by hash and a new set is only written for a configuration not seen before.
+ */
+@Service
+public class PortionSetServiceImpl implements PortionSetService {
+
+    private static final Comparator<PortionSnapshot> CANONICAL_ORDER = Comparator
+            .comparing(PortionSnapshot::getPortionSize)
+            .thenComparing(PortionSnapshot::getPortionName);
+
+    private final PortionSetRepository portionSetRepository;
+    private final Cache<String, Boolean> knownHashes;
+
+    public PortionSetServiceImpl(PortionSetRepository portionSetRepository,
+                                 @Value("${portion-set.cache.maximum-size:10000}") long maximumSize) {
+        this.portionSetRepository = portionSetRepository;
+        this.knownHashes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns a reference to the shared set for these portions, writing the set first if it is new.
+     * The write joins the calling transaction, or runs in its own when there is none, and ignores rows another
+     * request has inserted meanwhile. The hash is only remembered once that transaction commits, so a rollback
+     * never leaves it without its row.
+     */
+    @Override
+    @Transactional
+    public PortionSet resolvePortionSet(List<Portion> portions) {
+        List<PortionSnapshot> snapshots = toSnapshots(portions);
+        String hash = hash(snapshots);
+        if (knownHashes.getIfPresent(hash) == null) {
+            if (!portionSetRepository.existsById(hash)) {
+                insert(hash, snapshots);
+            }
+            rememberAfterCommit(hash);
+        }
+        return portionSetRepository.getReferenceById(hash);
+    }
+
+    @Override
+    public String calculateHash(List<Portion> portions) {
+        return hash(toSnapshots(portions));
+    }
+
+    private void insert(String hash, List<PortionSnapshot> snapshots) {
+        if (portionSetRepository.insertIgnore(hash) == 0) {
+            return;
+        }
+        for (int position = 0; position < snapshots.size(); position++) {
+            PortionSnapshot snapshot = snapshots.get(position);
+            portionSetRepository.insertPortionIgnore(hash, position, snapshot.getPortionName(), snapshot.getPortionSize());
+        }
+    }
+
+    private void rememberAfterCommit(String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            knownHashes.put(hash, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                knownHashes.put(hash, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static List<PortionSnapshot> toSnapshots(List<Portion> portions) {
+        if (portions == null) {
+            return List.of();
+        }
+        return portions.stream()
+                .map(portion -> PortionSnapshot.builder()
+                        .portionName(portion.getPortionName())
+                        .portionSize(portion.getPortionSize())
+                        .build())
+                .sorted(CANONICAL_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    private static String hash(List<PortionSnapshot> snapshots) {
+        StringBuilder canonical = new StringBuilder();
+        for (PortionSnapshot snapshot : snapshots) {
+            canonical.append(snapshot.getPortionName())
+                    .append('\u0000')
+                    .append(snapshot.getPortionSize().stripTrailingZeros().toPlainString())
+                    .append('\n');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
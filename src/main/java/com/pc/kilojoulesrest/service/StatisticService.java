@@ -0,0 +1,40 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+import com.pc.kilojoulesrest.model.StatisticDashboardDTO;
+import com.pc.kilojoulesrest.model.TopTenDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StatisticService {
+
+    JournalTotalsDTO calculateJournalTotalsByDate(User user, LocalDate date);
+
+    JournalTotalsDTO calculateJournalTotalsByPeriod(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByKiloJoules(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByKiloJoulesCount(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByProteins(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByProteinsCount(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByCarbohydrates(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByCarbohydratesCount(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByFiber(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByFiberCount(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByFat(User user, LocalDate startDate, LocalDate endDate);
+
+    List<TopTenDTO> getTop10ByFatCount(User user, LocalDate startDate, LocalDate endDate);
+
+    StatisticDashboardDTO fetchDashboard(User user, LocalDate startDate, LocalDate endDate);
+
+    String calculateETag(Long userId, LocalDate startDate, LocalDate endDate);
+}
@@ -1,44 +1,59 @@
 package com.pc.kilojoulesrest.service;
 
-import com.pc.kilojoulesrest.entity.Journal;
-import com.pc.kilojoulesrest.entity.JournalEntry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pc.kilojoulesrest.entity.Nutrient;
 import com.pc.kilojoulesrest.entity.User;
 import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+import com.pc.kilojoulesrest.model.StatisticDashboardDTO;
 import com.pc.kilojoulesrest.model.TopTenDTO;
 import com.pc.kilojoulesrest.repository.JournalRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @Service
 public class StatisticServiceImpl implements StatisticService {
 
-    private final JournalRepository journalRepository;
+    private static final int TOP_TEN = 10;
 
-    public StatisticServiceImpl(JournalRepository journalRepository) {
+    private final JournalRepository journalRepository;
+    private final DailyNutritionSummaryService dailyNutritionSummaryService;
+    private final JournalVersionService journalVersionService;
+    private final TaskExecutor statisticsExecutor;
+    private final Cache<RangeKey, RangeETag> rangeETags;
+
+    public StatisticServiceImpl(JournalRepository journalRepository, DailyNutritionSummaryService dailyNutritionSummaryService,
+                                JournalVersionService journalVersionService, @Qualifier("statisticsExecutor") TaskExecutor statisticsExecutor,
+                                @Value("${statistics.etag-cache.maximum-size:10000}") long eTagCacheSize) {
         this.journalRepository = journalRepository;
+        this.dailyNutritionSummaryService = dailyNutritionSummaryService;
+        this.journalVersionService = journalVersionService;
+        this.statisticsExecutor = statisticsExecutor;
+        this.rangeETags = Caffeine.newBuilder()
+                .maximumSize(eTagCacheSize)
+                .build();
     }
 
     @Override
     public JournalTotalsDTO calculateJournalTotalsByDate(User user, LocalDate date) {
-        JournalTotalsDTO journalTotalsDTO = new JournalTotalsDTO();
-        List<Journal> entries = journalRepository.findAllByConsumedAtAndUser(date, user);
-        calculateTotals(journalTotalsDTO, entries);
-        return journalTotalsDTO;
+        return dailyNutritionSummaryService.sumTotalsByPeriod(user, date, date);
     }
     @Override
     public JournalTotalsDTO calculateJournalTotalsByPeriod(User user, LocalDate startDate, LocalDate endDate) {
-        JournalTotalsDTO journalTotalsDTO = new JournalTotalsDTO();
-        List<Journal> entries = journalRepository.findAllByUserAndConsumedAtBetween(user, startDate, endDate);
-        calculateTotals(journalTotalsDTO, entries);
+        JournalTotalsDTO journalTotalsDTO = dailyNutritionSummaryService.sumTotalsByPeriod(user, startDate, endDate);
         long numOfDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
 
         journalTotalsDTO.setAvgQuantity(journalTotalsDTO.getTotalQuantity().divide(BigDecimal.valueOf(numOfDays), RoundingMode.HALF_UP));
@@ -51,310 +66,124 @@ public class StatisticServiceImpl implements StatisticService {
         return journalTotalsDTO;
     }
 
-    private void calculateTotals(JournalTotalsDTO journalTotalsDTO, List<Journal> entries){
-        entries.forEach(entry -> {
-            if (entry.getJournalFood() != null) {
-                updateTotalsWithJournalItem(journalTotalsDTO, entry.getJournalFood());
-            }
-            if (entry.getJournalMeal() != null) {
-                updateTotalsWithJournalItem(journalTotalsDTO, entry.getJournalMeal());
-            }
-        });
-    }
-
-    private void updateTotalsWithJournalItem(JournalTotalsDTO journalTotalsDTO, JournalEntry item){
-        journalTotalsDTO.setTotalQuantity(journalTotalsDTO.getTotalQuantity().add(item.getQuantity()));
-        journalTotalsDTO.setTotalKiloJoules(journalTotalsDTO.getTotalKiloJoules().add(item.getKiloJoules()));
-        journalTotalsDTO.setTotalProteins(journalTotalsDTO.getTotalProteins().add(item.getProteins()));
-        journalTotalsDTO.setTotalCarbohydrates(journalTotalsDTO.getTotalCarbohydrates().add(item.getProteins()));
-        journalTotalsDTO.setTotalFiber(journalTotalsDTO.getTotalFiber().add(item.getFiber()));
-        journalTotalsDTO.setTotalFat(journalTotalsDTO.getTotalFat().add(item.getFat()));
-    }
-
     @Override
     public List<TopTenDTO> getTop10ByKiloJoules(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodKiloJoulesAndCreatedAtBetweenOrderByJournalFoodKjDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealKiloJoulesAndCreatedAtBetweenOrderByJournalMealKjDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-
-        return combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setKiloJoules(journal.getJournalFood() != null ? journal.getJournalFood().getKiloJoules() : journal.getJournalMeal().getKiloJoules());
-                    return item;
-                })
-                .collect(Collectors.toList())
-                .stream()
-                .filter(item -> item.getKiloJoules().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getKiloJoules, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrient(user, startDate, endDate, Nutrient.KILOJOULES);
     }
 
     @Override
     public List<TopTenDTO> getTop10ByKiloJoulesCount(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodKiloJoulesAndCreatedAtBetweenOrderByJournalFoodKjDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealKiloJoulesAndCreatedAtBetweenOrderByJournalMealKjDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-        Map<String, TopTenDTO> itemMap = combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setKiloJoules(journal.getJournalFood() != null ? journal.getJournalFood().getKiloJoules() : journal.getJournalMeal().getKiloJoules());
-                    item.setCount(1);
-                    return item;
-                })
-                .collect(Collectors.toMap(
-                        TopTenDTO::getName, // key
-                        dto -> dto, // value
-                        (dto1, dto2) -> { // merge function
-                            dto1.setKiloJoules(dto1.getKiloJoules().add(dto2.getKiloJoules()));
-                            dto1.setCount(dto1.getCount() + 1);
-                            return dto1;
-                        }));
-
-        return itemMap.values().stream()
-                .filter(item -> item.getKiloJoules().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getKiloJoules, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrientCount(user, startDate, endDate, Nutrient.KILOJOULES);
     }
     @Override
     public List<TopTenDTO> getTop10ByProteins(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodProteinsAndCreatedAtBetweenOrderByJournalFoodProteinsDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealProteinsAndCreatedAtBetweenOrderByJournalMealProteinsDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-
-        return combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setProteins(journal.getJournalFood() != null ? journal.getJournalFood().getProteins() : journal.getJournalMeal().getProteins());
-                    return item;
-                })
-                .collect(Collectors.toList())
-                .stream()
-                .filter(item -> item.getProteins().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getProteins, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrient(user, startDate, endDate, Nutrient.PROTEINS);
     }
     @Override
     public List<TopTenDTO> getTop10ByProteinsCount(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodProteinsAndCreatedAtBetweenOrderByJournalFoodProteinsDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealProteinsAndCreatedAtBetweenOrderByJournalMealProteinsDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-        Map<String, TopTenDTO> itemMap = combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setProteins(journal.getJournalFood() != null ? journal.getJournalFood().getProteins() : journal.getJournalMeal().getProteins());
-                    item.setCount(1);
-                    return item;
-                })
-                .collect(Collectors.toMap(
-                        TopTenDTO::getName,
-                        dto -> dto,
-                        (dto1, dto2) -> {
-                            dto1.setProteins(dto1.getProteins().add(dto2.getProteins()));
-                            dto1.setCount(dto1.getCount() + 1);
-                            return dto1;
-                        }));
-        return itemMap.values().stream()
-                .filter(item -> item.getProteins().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getProteins, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrientCount(user, startDate, endDate, Nutrient.PROTEINS);
     }
 
     @Override
     public List<TopTenDTO> getTop10ByCarbohydrates(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodCarbsAndCreatedAtBetweenOrderByJournalFoodCarbsDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealCarbsAndCreatedAtBetweenOrderByJournalMealCarbsDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-
-        return combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setCarbohydrates(journal.getJournalFood() != null ? journal.getJournalFood().getCarbohydrates() : journal.getJournalMeal().getCarbohydrates());
-                    return item;
-                })
-                .collect(Collectors.toList())
-                .stream()
-                .filter(item -> item.getCarbohydrates().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getCarbohydrates, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrient(user, startDate, endDate, Nutrient.CARBOHYDRATES);
     }
 
     @Override
     public List<TopTenDTO> getTop10ByCarbohydratesCount(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodCarbsAndCreatedAtBetweenOrderByJournalFoodCarbsDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealCarbsAndCreatedAtBetweenOrderByJournalMealCarbsDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-        Map<String, TopTenDTO> itemMap = combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setCarbohydrates(journal.getJournalFood() != null ? journal.getJournalFood().getCarbohydrates() : journal.getJournalMeal().getCarbohydrates());
-                    item.setCount(1);
-                    return item;
-                })
-                .collect(Collectors.toMap(
-                        TopTenDTO::getName,
-                        dto -> dto,
-                        (dto1, dto2) -> {
-                            dto1.setCarbohydrates(dto1.getCarbohydrates().add(dto2.getCarbohydrates()));
-                            dto1.setCount(dto1.getCount() + 1);
-                            return dto1;
-                        }));
-        return itemMap.values().stream()
-                .filter(item -> item.getCarbohydrates().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getCarbohydrates, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrientCount(user, startDate, endDate, Nutrient.CARBOHYDRATES);
     }
 
     @Override
     public List<TopTenDTO> getTop10ByFiber(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodFiberAndCreatedAtBetweenOrderByJournalFoodFiberDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealFiberAndCreatedAtBetweenOrderByJournalMealFiberDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-
-        return combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setFiber(journal.getJournalFood() != null ? journal.getJournalFood().getFiber() : journal.getJournalMeal().getFiber());
-                    return item;
-                })
-                .collect(Collectors.toList())
-                .stream()
-                .filter(item -> item.getFiber().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getFiber, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrient(user, startDate, endDate, Nutrient.FIBER);
     }
 
     @Override
     public List<TopTenDTO> getTop10ByFiberCount(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodFiberAndCreatedAtBetweenOrderByJournalFoodFiberDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealFiberAndCreatedAtBetweenOrderByJournalMealFiberDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
-        Map<String, TopTenDTO> itemMap = combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setFiber(journal.getJournalFood() != null ? journal.getJournalFood().getFiber() : journal.getJournalMeal().getFiber());
-                    item.setCount(1);
-                    return item;
-                })
-                .collect(Collectors.toMap(
-                        TopTenDTO::getName,
-                        dto -> dto,
-                        (dto1, dto2) -> {
-                            dto1.setFiber(dto1.getFiber().add(dto2.getFiber()));
-                            dto1.setCount(dto1.getCount() + 1);
-                            return dto1;
-                        }));
-        return itemMap.values().stream()
-                .filter(item -> item.getFiber().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getFiber, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+        return getTop10ByNutrientCount(user, startDate, endDate, Nutrient.FIBER);
     }
 
     @Override
     public List<TopTenDTO> getTop10ByFat(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodFatAndCreatedAtBetweenOrderByJournalFoodFatDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealFatAndCreatedAtBetweenOrderByJournalMealFatDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
+        return getTop10ByNutrient(user, startDate, endDate, Nutrient.FAT);
+    }
 
-        return combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setFat(journal.getJournalFood() != null ? journal.getJournalFood().getFat() : journal.getJournalMeal().getFat());
-                    return item;
-                })
-                .collect(Collectors.toList())
-                .stream()
-                .filter(item -> item.getFat().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getFat, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+    @Override
+    public List<TopTenDTO> getTop10ByFatCount(User user, LocalDate startDate, LocalDate endDate) {
+        return getTop10ByNutrientCount(user, startDate, endDate, Nutrient.FAT);
     }
 
+    /**
+     * The period totals and the five top ten lists are independent reads, so they run at the same time
+     * on the statistics executor; the response takes as long as the slowest of them.
+     */
+    @Override
+    public StatisticDashboardDTO fetchDashboard(User user, LocalDate startDate, LocalDate endDate) {
+        CompletableFuture<JournalTotalsDTO> totals = supplyAsync(() -> calculateJournalTotalsByPeriod(user, startDate, endDate));
+        CompletableFuture<List<TopTenDTO>> kiloJoules = supplyAsync(() -> getTop10ByKiloJoules(user, startDate, endDate));
+        CompletableFuture<List<TopTenDTO>> proteins = supplyAsync(() -> getTop10ByProteins(user, startDate, endDate));
+        CompletableFuture<List<TopTenDTO>> carbohydrates = supplyAsync(() -> getTop10ByCarbohydrates(user, startDate, endDate));
+        CompletableFuture<List<TopTenDTO>> fiber = supplyAsync(() -> getTop10ByFiber(user, startDate, endDate));
+        CompletableFuture<List<TopTenDTO>> fat = supplyAsync(() -> getTop10ByFat(user, startDate, endDate));
+
+        try {
+            CompletableFuture.allOf(totals, kiloJoules, proteins, carbohydrates, fiber, fat).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        StatisticDashboardDTO dashboard = new StatisticDashboardDTO();
+        dashboard.setStartDate(startDate);
+        dashboard.setEndDate(endDate);
+        dashboard.setTotals(totals.join());
+        dashboard.setTopKiloJoules(kiloJoules.join());
+        dashboard.setTopProteins(proteins.join());
+        dashboard.setTopCarbohydrates(carbohydrates.join());
+        dashboard.setTopFiber(fiber.join());
+        dashboard.setTopFat(fat.join());
+        return dashboard;
+    }
 
+    /**
+     * Strong ETag over the versions of the summary rows in the range, so a write to another day leaves the tag of
+     * a range alone. The tag is remembered with the user's journal version; while no journal write has happened
+     * since, it is served after a single primary key read.
+     */
     @Override
-    public List<TopTenDTO> getTop10ByFatCount(User user, LocalDate startDate, LocalDate endDate) {
-        List<Journal> combinedList = new ArrayList<>();
-        List<Journal> foodList = journalRepository.findTop10ByJournalFoodFatAndCreatedAtBetweenOrderByJournalFoodFatDesc(user, startDate, endDate);
-        List<Journal> mealList = journalRepository.findTop10ByJournalMealFatAndCreatedAtBetweenOrderByJournalMealFatDesc(user, startDate, endDate);
-        combinedList.addAll(foodList);
-        combinedList.addAll(mealList);
+    public String calculateETag(Long userId, LocalDate startDate, LocalDate endDate) {
+        long journalVersion = journalVersionService.fetchJournalVersion(userId);
+        RangeKey rangeKey = new RangeKey(userId, startDate, endDate);
+        RangeETag cached = rangeETags.getIfPresent(rangeKey);
+        if (cached != null && cached.journalVersion() == journalVersion) {
+            return cached.eTag();
+        }
+        String key = userId + ":" + startDate + ":" + endDate + ":"
+                + dailyNutritionSummaryService.fetchRangeVersion(userId, startDate, endDate);
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+        rangeETags.put(rangeKey, new RangeETag(journalVersion, eTag));
+        return eTag;
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, statisticsExecutor);
+    }
+
+    private List<TopTenDTO> getTop10ByNutrient(User user, LocalDate startDate, LocalDate endDate, Nutrient nutrient) {
+        return journalRepository.findTopByNutrient(user, startDate, endDate, nutrient, TOP_TEN);
+    }
+
+    private List<TopTenDTO> getTop10ByNutrientCount(User user, LocalDate startDate, LocalDate endDate, Nutrient nutrient) {
+        return journalRepository.findTopByNutrientGroupedByName(user, startDate, endDate, nutrient, TOP_TEN);
+    }
+
+    private record RangeKey(Long userId, LocalDate startDate, LocalDate endDate) {
+    }
 
-        Map<String, TopTenDTO> itemMap = combinedList.stream()
-                .map(journal -> {
-                    TopTenDTO item = new TopTenDTO();
-                    item.setFoodId(journal.getJournalFood() != null ? journal.getJournalFood().getId() : null);
-                    item.setMealId(journal.getJournalMeal() != null ? journal.getJournalMeal().getId() : null);
-                    item.setName(journal.getJournalFood() != null ? journal.getJournalFood().getName() : journal.getJournalMeal().getMealName());
-                    item.setFat(journal.getJournalFood() != null ? journal.getJournalFood().getFat() : journal.getJournalMeal().getFat());
-                    item.setCount(1);
-                    return item;
-                })
-                .collect(Collectors.toMap(
-                        TopTenDTO::getName,
-                        dto -> dto,
-                        (dto1, dto2) -> {
-                            dto1.setFat(dto1.getFat().add(dto2.getFat()));
-                            dto1.setCount(dto1.getCount() + 1);
-                            return dto1;
-                        }));
-        return itemMap.values().stream()
-                .filter(item -> item.getFat().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(TopTenDTO::getFat, Comparator.reverseOrder()))
-                .limit(10)
-                .collect(Collectors.toList());
+    private record RangeETag(long journalVersion, String eTag) {
     }
 
 }
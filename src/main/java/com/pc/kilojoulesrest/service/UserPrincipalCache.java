@@ -0,0 +1,46 @@
+package com.pc.kilojoulesrest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache of principals loaded from the database, used by the stateless JWT mode
+ * to notice deleted users or changed roles within {@code jwt.principal-cache.ttl}.
+ * A zero TTL disables it and the principal is taken from the token claims alone.
+ * UserServiceImpl evicts a user whenever it is saved or deleted, so role changes made there apply at once.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserInfoUserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public UserPrincipalCache(UserInfoUserDetailsService userDetailsService,
+                              @Value("${jwt.principal-cache.ttl:0s}") Duration ttl,
+                              @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.userDetailsService = userDetailsService;
+        this.cache = ttl.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public UserDetails get(String username) {
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    public void evict(String username) {
+        if (cache != null) {
+            cache.invalidate(username);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.pc.kilojoulesrest.util;
+
+import com.pc.kilojoulesrest.entity.JournalFoodItem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Mutable accumulator for the nutrient fields of a food item, kept as fixed-point longs in millionths.
+ * Totals are summed in one pass without intermediate BigDecimals, the scale of the inputs is remembered per field
+ * so that get() returns the same BigDecimal a plain BigDecimal sum would have produced. That holds for inputs of
+ * up to six decimals, which covers the four-decimal products of a nutrient value and a quantity; anything finer
+ * is rounded half up to six decimals.
+ */
+public final class NutrientVector {
+
+    public static final int QUANTITY = 0;
+    public static final int KILOJOULES = 1;
+    public static final int PROTEINS = 2;
+    public static final int CARBOHYDRATES = 3;
+    public static final int FIBER = 4;
+    public static final int SUGAR = 5;
+    public static final int FAT = 6;
+    public static final int SAFA = 7;
+    public static final int TFA = 8;
+    public static final int CHOLESTEROL = 9;
+    public static final int SODIUM = 10;
+    public static final int CALCIUM = 11;
+    public static final int PHE = 12;
+    public static final int SIZE = 13;
+
+    private static final int SCALE = 6;
+    private static final long[] POW10 = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    private final long[] micros = new long[SIZE];
+    private final byte[] scales = new byte[SIZE];
+
+    public NutrientVector add(int field, BigDecimal value) {
+        if (value != null) {
+            micros[field] += toMicros(value);
+            scales[field] = (byte) Math.max(scales[field], Math.min(Math.max(value.scale(), 0), SCALE));
+        }
+        return this;
+    }
+
+    public NutrientVector subtract(int field, BigDecimal value) {
+        return value != null ? add(field, value.negate()) : this;
+    }
+
+    public NutrientVector add(JournalFoodItem item) {
+        add(QUANTITY, item.getQuantity());
+        add(KILOJOULES, item.getKiloJoules());
+        add(PROTEINS, item.getProteins());
+        add(CARBOHYDRATES, item.getCarbohydrates());
+        add(FIBER, item.getFiber());
+        add(SUGAR, item.getSugar());
+        add(FAT, item.getFat());
+        add(SAFA, item.getSafa());
+        add(TFA, item.getTfa());
+        add(CHOLESTEROL, item.getCholesterol());
+        add(SODIUM, item.getSodium());
+        add(CALCIUM, item.getCalcium());
+        add(PHE, item.getPhe());
+        return this;
+    }
+
+    public NutrientVector add(NutrientVector other) {
+        for (int i = 0; i < SIZE; i++) {
+            micros[i] += other.micros[i];
+            scales[i] = (byte) Math.max(scales[i], other.scales[i]);
+        }
+        return this;
+    }
+
+    public NutrientVector subtract(NutrientVector other) {
+        for (int i = 0; i < SIZE; i++) {
+            micros[i] -= other.micros[i];
+            scales[i] = (byte) Math.max(scales[i], other.scales[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every field by numerator / denominator, rounding half up to millionths.
+     */
+    public NutrientVector scale(long numerator, long denominator) {
+        for (int i = 0; i < SIZE; i++) {
+            micros[i] = divideHalfUp(Math.multiplyExact(micros[i], numerator), denominator);
+        }
+        return this;
+    }
+
+    /**
+     * Divides every field rounding half up at the field's own scale, like BigDecimal.divide(divisor, HALF_UP).
+     */
+    public NutrientVector divide(long divisor) {
+        for (int i = 0; i < SIZE; i++) {
+            long unit = POW10[SCALE - scales[i]];
+            micros[i] = divideHalfUp(micros[i], Math.multiplyExact(divisor, unit)) * unit;
+        }
+        return this;
+    }
+
+    public long getMicros(int field) {
+        return micros[field];
+    }
+
+    public BigDecimal get(int field) {
+        return BigDecimal.valueOf(micros[field], SCALE).setScale(scales[field], RoundingMode.HALF_UP);
+    }
+
+    public void applyTo(JournalFoodItem item) {
+        item.setQuantity(get(QUANTITY));
+        item.setKiloJoules(get(KILOJOULES));
+        item.setProteins(get(PROTEINS));
+        item.setCarbohydrates(get(CARBOHYDRATES));
+        item.setFiber(get(FIBER));
+        item.setSugar(get(SUGAR));
+        item.setFat(get(FAT));
+        item.setSafa(get(SAFA));
+        item.setTfa(get(TFA));
+        item.setCholesterol(get(CHOLESTEROL));
+        item.setSodium(get(SODIUM));
+        item.setCalcium(get(CALCIUM));
+        item.setPhe(get(PHE));
+    }
+
+    private static long toMicros(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+}
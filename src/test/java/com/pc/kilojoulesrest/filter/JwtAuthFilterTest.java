@@ -0,0 +1,108 @@
+package com.pc.kilojoulesrest.filter;
+
+import com.pc.kilojoulesrest.config.ExtendedUserDetails;
+import com.pc.kilojoulesrest.config.UserInfoUserDetails;
+import com.pc.kilojoulesrest.service.JwtService;
+import com.pc.kilojoulesrest.service.UserInfoUserDetailsService;
+import com.pc.kilojoulesrest.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    private static final String TOKEN = "token";
+
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private UserInfoUserDetailsService userDetailsService;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+    @InjectMocks
+    private JwtAuthFilter jwtAuthFilter;
+
+    private MockHttpServletRequest request;
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/food");
+        request.setServletPath("/api/food");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        claims = Jwts.claims().setSubject("user1");
+        given(jwtService.extractAllClaims(TOKEN)).willReturn(claims);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("JUnit test for stateless mode taking the principal from the token claims")
+    void givenStatelessMode_whenFilter_thenPrincipalIsBuiltFromClaims() throws Exception {
+        ReflectionTestUtils.setField(jwtAuthFilter, "stateless", true);
+        given(jwtService.extractUserDetails(claims)).willReturn(new UserInfoUserDetails(7L, "user1", "ROLE_USER"));
+        given(userPrincipalCache.isEnabled()).willReturn(false);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(authentication).isNotNull();
+        assertThat(((ExtendedUserDetails) authentication.getPrincipal()).getUserId()).isEqualTo(7L);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("JUnit test for stateless mode preferring the cached principal over the token roles")
+    void givenStatelessModeWithPrincipalCache_whenFilter_thenCachedRolesAreUsed() throws Exception {
+        ReflectionTestUtils.setField(jwtAuthFilter, "stateless", true);
+        given(jwtService.extractUserDetails(claims)).willReturn(new UserInfoUserDetails(7L, "user1", "ROLE_USER"));
+        given(userPrincipalCache.isEnabled()).willReturn(true);
+        given(userPrincipalCache.get("user1")).willReturn(new UserInfoUserDetails(7L, "user1", "ROLE_ADMIN"));
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("JUnit test for the default mode loading the principal from the database")
+    void givenDefaultMode_whenFilter_thenPrincipalIsLoaded() throws Exception {
+        UserInfoUserDetails userDetails = new UserInfoUserDetails(7L, "user1", "ROLE_USER");
+        given(userDetailsService.loadUserByUsername("user1")).willReturn(userDetails);
+        given(jwtService.validateToken(claims, userDetails)).willReturn(true);
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(userDetails);
+        verify(jwtService, never()).extractUserDetails(claims);
+    }
+}
@@ -0,0 +1,132 @@
+package com.pc.kilojoulesrest.integration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.FoodImportJobDTO;
+import com.pc.kilojoulesrest.model.FoodImportJobStatus;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.repository.UserRepository;
+import com.pc.kilojoulesrest.service.JwtService;
+import com.pc.kilojoulesrest.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+public class AdminControllerITests {
+
+    private static final String CSV = "\"Název\";\"Čas zápisu\";\"Množství\";\"kJ\";\"Bílkoviny [g]\";\"Sacharidy [g]\";\"Cukry [g]\";\"Tuky [g]\";\"Nasycené mastné kyseliny [g]\";\"Trans mastné kyseliny [g]\";\"Cholesterol [mg]\";\"Vláknina [g]\";\"Sodík [mg]\";\"Vápník [g]\";\"PHE [mg]\"\n"
+            + "\"Admin import food one\";01.02.2024;100;412;4;7;5;6;2;;;;;;0,22\n"
+            + "\"Admin import food two\";01.02.2024;100;-1;4;7;5;6;2;;;;;;\n"
+            + "\"Admin import food three\";01.02.2024;100;150;1,2;7;4;0,2;;;;;;;\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper om;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FoodRepository foodRepository;
+    @Autowired
+    private JwtService jwtService;
+
+    private String authorizedAdmin;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername("admin for AdminController integration test").isEmpty()) {
+            userService.saveUser(User.builder()
+                    .username("admin for AdminController integration test")
+                    .password(userService.encodePassword("admin1pwd"))
+                    .roles("ROLE_ADMIN")
+                    .build());
+        }
+        authorizedAdmin = "Bearer " + jwtService.generateToken("admin for AdminController integration test");
+    }
+
+    @Test
+    @DisplayName("Integration test for CSV food import running as a background job")
+    public void givenCsvUpload_whenImportFoods_thenJobCompletesWithCounts() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "foods.csv", "text/csv", CSV.getBytes(StandardCharsets.UTF_8));
+
+        MvcResult submitted = mockMvc.perform(multipart("/api/admin/food/import").file(file)
+                        .header("Authorization", authorizedAdmin))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.jobId").isNotEmpty())
+                .andReturn();
+        String jobId = om.readValue(submitted.getResponse().getContentAsString(), FoodImportJobDTO.class).getJobId();
+
+        FoodImportJobDTO job = null;
+        for (int i = 0; i < 100; i++) {
+            MvcResult polled = mockMvc.perform(get("/api/admin/food/import/{jobId}", jobId)
+                            .header("Authorization", authorizedAdmin))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            job = om.readValue(polled.getResponse().getContentAsString(), FoodImportJobDTO.class);
+            if (job.getStatus() == FoodImportJobStatus.COMPLETED || job.getStatus() == FoodImportJobStatus.FAILED) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+
+        assertThat(job.getStatus()).isEqualTo(FoodImportJobStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(3);
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(job.getRejected()).isEqualTo(1);
+        List<Food> imported = foodRepository.findAllByNameNormalizedStartingWith("admin import food", Pageable.unpaged()).getContent();
+        assertThat(imported).hasSize(2);
+
+        foodRepository.deleteAll(imported);
+    }
+
+    @Test
+    @DisplayName("Integration test for unknown import job")
+    public void givenUnknownJobId_whenFetchImportJob_thenNotFound() throws Exception {
+        mockMvc.perform(get("/api/admin/food/import/{jobId}", "no-such-job")
+                        .header("Authorization", authorizedAdmin))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Integration test for food import forbidden to a regular user")
+    public void givenUser_whenImportFoods_thenForbidden() throws Exception {
+        if (userRepository.findByUsername("user for AdminController integration test").isEmpty()) {
+            userService.saveUser(User.builder()
+                    .username("user for AdminController integration test")
+                    .password(userService.encodePassword("user1pwd"))
+                    .roles("ROLE_USER")
+                    .build());
+        }
+        String authorizedUser = "Bearer " + jwtService.generateToken("user for AdminController integration test");
+        MockMultipartFile file = new MockMultipartFile("file", "foods.csv", "text/csv", CSV.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/admin/food/import").file(file)
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,207 @@
+package com.pc.kilojoulesrest.integration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.model.JournalBatchEntryDTO;
+import com.pc.kilojoulesrest.model.JournalBatchRequestDTO;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.UserRepository;
+import com.pc.kilojoulesrest.service.*;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+public class JournalBatchControllerITests {
+
+    private static final String USERNAME = "user for JournalBatch integration test";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private FoodService foodService;
+    @Autowired
+    private PortionService portionService;
+    @Autowired
+    private MealService mealService;
+    @SpyBean
+    private JournalRepository journalRepository;
+    @Autowired
+    private ObjectMapper om;
+
+    private String authorizedUser;
+    private User user;
+    private Food food;
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByUsername(USERNAME).orElseGet(() -> userService.saveUser(User.builder()
+                .username(USERNAME)
+                .password(userService.encodePassword("user1pwd"))
+                .roles("ROLE_USER")
+                .build()));
+        authorizedUser = "Bearer " + jwtService.generateToken(USERNAME);
+
+        food = Food.builder()
+                .name("Apple")
+                .kiloJoules(BigDecimal.TEN)
+                .proteins(BigDecimal.TEN)
+                .carbohydrates(BigDecimal.TEN)
+                .fat(BigDecimal.TEN)
+                .build();
+        foodService.saveFood(food);
+        Portion portion1 = Portion.builder().portionName("1 g").portionSize(BigDecimal.ONE).food(food).build();
+        portionService.savePortion(portion1);
+        Portion portion100 = Portion.builder().portionName("100 g").portionSize(ONE_HUNDRED).food(food).build();
+        portionService.savePortion(portion100);
+        List<Portion> portions = new ArrayList<>();
+        portions.add(portion1);
+        portions.add(portion100);
+        food.setPortions(portions);
+        foodService.saveFood(food);
+
+        meal = Meal.builder()
+                .user(user)
+                .mealName("Fruit")
+                .build();
+        mealService.saveMeal(meal);
+        meal.setMealFoods(Set.of(MealFood.builder()
+                .quantity(ONE_HUNDRED)
+                .food(food)
+                .meal(meal)
+                .build()));
+        mealService.saveMeal(meal);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Integration test for a batch where every entry is created")
+    void givenValidEntries_whenAddEntriesToJournal_thenCreated() throws Exception {
+        ResultActions response = postBatch(List.of(
+                foodEntry(food.getId(), "2024-02-01", "BREAKFAST"),
+                JournalBatchEntryDTO.builder().mealId(meal.getId()).consumedAt("2024-02-02").mealType("DINNER").build()));
+
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].status", contains(201, 201)))
+                .andExpect(jsonPath("$[0].journalId").isNumber())
+                .andExpect(jsonPath("$[1].journalId").isNumber());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Integration test for a batch where a malformed date only rejects its own entry")
+    void givenEntryWithMalformedDate_whenAddEntriesToJournal_thenMultiStatus() throws Exception {
+        ResultActions response = postBatch(List.of(
+                foodEntry(food.getId(), "2024-02-01", "LUNCH"),
+                foodEntry(food.getId(), "2024-02-31", "LUNCH"),
+                foodEntry(Long.MAX_VALUE, "2024-02-01", "LUNCH")));
+
+        response.andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[*].index", contains(0, 1, 2)))
+                .andExpect(jsonPath("$[*].status", contains(201, 400, 404)))
+                .andExpect(jsonPath("$[1].journalId").doesNotExist())
+                .andExpect(jsonPath("$[1].error", containsString("2024-02-31")));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Integration test for a batch where no entry is created")
+    void givenOnlyRejectedEntries_whenAddEntriesToJournal_thenBadRequest() throws Exception {
+        ResultActions response = postBatch(List.of(
+                foodEntry(food.getId(), "01.02.2024", "LUNCH"),
+                foodEntry(food.getId(), "2024-02-01", "BRUNCH")));
+
+        response.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[*].status", contains(400, 400)))
+                .andExpect(jsonPath("$[1].error", startsWith("Invalid meal type: BRUNCH")));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Integration test for a batch rejected by bean validation")
+    void givenInvalidRequest_whenAddEntriesToJournal_thenFieldErrorsReturned() throws Exception {
+        postBatch(List.of())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.entries").value("Batch must contain at least one entry"));
+
+        postBatch(List.of(foodEntry(food.getId(), null, "LUNCH")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['entries[0].consumedAt']").value("Consumption date cannot be null"));
+
+        postBatch(List.of(JournalBatchEntryDTO.builder()
+                .foodId(food.getId())
+                .consumedAt("2024-02-01")
+                .mealType("LUNCH")
+                .quantity(new BigDecimal("-1"))
+                .build()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['entries[0].quantity']").value("Quantity must be greater than or equal to zero"));
+    }
+
+    @Test
+    @DisplayName("Integration test for a batch rolled back when the database write fails")
+    void givenDatabaseError_whenAddEntriesToJournal_thenNothingIsWritten() throws Exception {
+        LocalDate consumedAt = LocalDate.of(2020, 1, 15);
+        willAnswer(invocation -> {
+            invocation.callRealMethod();
+            throw new DataIntegrityViolationException("Simulated write failure");
+        }).given(journalRepository).saveAll(anyIterable());
+
+        postBatch(List.of(
+                foodEntry(food.getId(), consumedAt.toString(), "BREAKFAST"),
+                foodEntry(food.getId(), consumedAt.toString(), "LUNCH")))
+                .andExpect(status().isServiceUnavailable());
+
+        assertThat(journalRepository.findByConsumedAtAndUserOrderByMealTypeAsc(consumedAt, user)).isEmpty();
+    }
+
+    private ResultActions postBatch(List<JournalBatchEntryDTO> entries) throws Exception {
+        return mockMvc.perform(post("/api/journal/batch")
+                .header("Authorization", authorizedUser)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(new JournalBatchRequestDTO(entries))));
+    }
+
+    private static JournalBatchEntryDTO foodEntry(Long foodId, String consumedAt, String mealType) {
+        return JournalBatchEntryDTO.builder()
+                .foodId(foodId)
+                .consumedAt(consumedAt)
+                .mealType(mealType)
+                .quantity(new BigDecimal("150"))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.pc.kilojoulesrest.integration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalFoodFormDTO;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.UserRepository;
+import com.pc.kilojoulesrest.service.FoodService;
+import com.pc.kilojoulesrest.service.IdempotencyCache;
+import com.pc.kilojoulesrest.service.JwtService;
+import com.pc.kilojoulesrest.service.PortionService;
+import com.pc.kilojoulesrest.service.UserService;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+public class JournalFoodControllerITests {
+
+    private static final String USERNAME = "user for JournalFood integration test";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private FoodService foodService;
+    @Autowired
+    private PortionService portionService;
+    @Autowired
+    private JournalRepository journalRepository;
+    @Autowired
+    private ObjectMapper om;
+
+    private String authorizedUser;
+    private User user;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByUsername(USERNAME).orElseGet(() -> userService.saveUser(User.builder()
+                .username(USERNAME)
+                .password(userService.encodePassword("user1pwd"))
+                .roles("ROLE_USER")
+                .build()));
+        authorizedUser = "Bearer " + jwtService.generateToken(USERNAME);
+
+        food = Food.builder()
+                .name("Apple")
+                .kiloJoules(BigDecimal.TEN)
+                .proteins(BigDecimal.TEN)
+                .carbohydrates(BigDecimal.TEN)
+                .fat(BigDecimal.TEN)
+                .build();
+        foodService.saveFood(food);
+        portionService.savePortion(Portion.builder().portionName("100 g").portionSize(ONE_HUNDRED).food(food).build());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Integration test for a retried food entry replayed by its idempotency key")
+    void givenSameIdempotencyKey_whenAddFoodToJournalTwice_thenOneEntryIsWrittenAndReplayed() throws Exception {
+        LocalDate consumedAt = LocalDate.of(2022, 5, 17);
+        JournalFoodFormDTO dto = new JournalFoodFormDTO(consumedAt.toString(), "BREAKFAST", "Apple", new BigDecimal("150"), ONE_HUNDRED);
+
+        MvcResult first = addFoodToJournal(dto, "retry-key-1")
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyCache.REPLAYED_HEADER))
+                .andReturn();
+        MvcResult retry = addFoodToJournal(dto, "retry-key-1")
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyCache.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(retry.getResponse().getHeader("Location")).isEqualTo(first.getResponse().getHeader("Location"));
+        assertThat(journalRepository.findByConsumedAtAndUserOrderByMealTypeAsc(consumedAt, user)).hasSize(1);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Integration test for an idempotency key reused with a different food entry")
+    void givenSameIdempotencyKeyAndOtherBody_whenAddFoodToJournal_thenUnprocessableEntity() throws Exception {
+        LocalDate consumedAt = LocalDate.of(2022, 5, 18);
+        JournalFoodFormDTO dto = new JournalFoodFormDTO(consumedAt.toString(), "LUNCH", "Apple", new BigDecimal("150"), ONE_HUNDRED);
+        JournalFoodFormDTO other = new JournalFoodFormDTO(consumedAt.toString(), "LUNCH", "Apple", new BigDecimal("200"), ONE_HUNDRED);
+
+        addFoodToJournal(dto, "retry-key-2").andExpect(status().isCreated());
+        addFoodToJournal(other, "retry-key-2").andExpect(status().isUnprocessableEntity());
+
+        assertThat(journalRepository.findByConsumedAtAndUserOrderByMealTypeAsc(consumedAt, user)).hasSize(1);
+    }
+
+    private ResultActions addFoodToJournal(JournalFoodFormDTO dto, String idempotencyKey) throws Exception {
+        return mockMvc.perform(post("/api/journal/food/{foodId}", food.getId())
+                .header("Authorization", authorizedUser)
+                .header(IdempotencyCache.HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(dto)));
+    }
+}
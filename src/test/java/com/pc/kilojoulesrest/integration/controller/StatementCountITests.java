@@ -0,0 +1,167 @@
+package com.pc.kilojoulesrest.integration.controller;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.UserRepository;
+import com.pc.kilojoulesrest.service.FoodService;
+import com.pc.kilojoulesrest.service.JwtService;
+import com.pc.kilojoulesrest.service.PortionService;
+import com.pc.kilojoulesrest.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards against N+1 selects coming back. The budgets include the user lookup done by the JWT filter
+ * (user plus its profile), the rest is what the endpoint itself needs.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class StatementCountITests {
+
+    private static final String USERNAME = "user for statement count integration test";
+    private static final long AUTH_STATEMENTS = 2;
+    private static final LocalDate JOURNAL_DAY = LocalDate.of(2021, 3, 14);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private FoodService foodService;
+    @Autowired
+    private PortionService portionService;
+    @Autowired
+    private JournalRepository journalRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String authorizedUser;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByUsername(USERNAME).orElseGet(() -> userService.saveUser(User.builder()
+                .username(USERNAME)
+                .password(userService.encodePassword("user1pwd"))
+                .roles("ROLE_USER")
+                .build()));
+        authorizedUser = "Bearer " + jwtService.generateToken(USERNAME);
+
+        for (int i = 0; i < 3; i++) {
+            food = Food.builder()
+                    .name("Statement count food " + i)
+                    .kiloJoules(BigDecimal.TEN)
+                    .proteins(BigDecimal.TEN)
+                    .carbohydrates(BigDecimal.TEN)
+                    .fat(BigDecimal.TEN)
+                    .build();
+            foodService.saveFood(food);
+            portionService.savePortion(Portion.builder().portionName("1 g").portionSize(BigDecimal.ONE).food(food).build());
+            portionService.savePortion(Portion.builder().portionName("100 g").portionSize(ONE_HUNDRED).food(food).build());
+        }
+
+        journalRepository.saveAll(List.of(
+                journal(user, MealType.BREAKFAST, JournalFood.builder()
+                        .name("Statement count journal food")
+                        .quantity(ONE_HUNDRED)
+                        .kiloJoules(BigDecimal.TEN)
+                        .proteins(BigDecimal.ONE)
+                        .carbohydrates(BigDecimal.ONE)
+                        .fat(BigDecimal.ONE)
+                        .build(), null),
+                journal(user, MealType.LUNCH, null, JournalMeal.builder()
+                        .mealName("Statement count journal meal")
+                        .saved(false)
+                        .quantity(new BigDecimal("200"))
+                        .kiloJoules(new BigDecimal("20"))
+                        .proteins(new BigDecimal("2"))
+                        .carbohydrates(new BigDecimal("2"))
+                        .fiber(BigDecimal.ZERO)
+                        .fat(new BigDecimal("2"))
+                        .build())));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Statement count for the paged food listing")
+    public void whenFetchFoodsPaged_thenPortionsAreBatchLoaded() throws Exception {
+        mockMvc.perform(get("/api/food")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk());
+
+        // page, count and one batched portion select
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(AUTH_STATEMENTS + 3);
+    }
+
+    @Test
+    @DisplayName("Statement count for food detail")
+    public void whenGetFoodById_thenFoodAndPortionsAreLoadedInOneSelect() throws Exception {
+        mockMvc.perform(get("/api/food/{id}", food.getId())
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(AUTH_STATEMENTS + 1);
+    }
+
+    @Test
+    @DisplayName("Statement count for food search")
+    public void whenSearchFood_thenPortionsAreBatchLoaded() throws Exception {
+        mockMvc.perform(get("/api/food/search")
+                        .param("query", "statement count")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk());
+
+        // foods of the page and one batched portion select, or the LIKE query and its count before the index is built
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(AUTH_STATEMENTS + 3);
+    }
+
+    @Test
+    @DisplayName("Statement count for the journal day")
+    public void whenFetchJournalDay_thenEntriesAndTotalsComeFromOneSelect() throws Exception {
+        mockMvc.perform(get("/api/journal/day/{date}", JOURNAL_DAY)
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk());
+
+        // one projection select for food and meal entries, however many entries the day has
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(AUTH_STATEMENTS + 1);
+    }
+
+    private static Journal journal(User user, MealType mealType, JournalFood journalFood, JournalMeal journalMeal) {
+        return Journal.builder()
+                .consumedAt(JOURNAL_DAY)
+                .mealType(mealType)
+                .user(user)
+                .journalFood(journalFood)
+                .journalMeal(journalMeal)
+                .build();
+    }
+}
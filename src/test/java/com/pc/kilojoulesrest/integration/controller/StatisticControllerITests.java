@@ -0,0 +1,318 @@
+package com.pc.kilojoulesrest.integration.controller;
+
+import com.pc.kilojoulesrest.entity.Journal;
+import com.pc.kilojoulesrest.entity.JournalFood;
+import com.pc.kilojoulesrest.entity.MealType;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.UserRepository;
+import com.pc.kilojoulesrest.service.JwtService;
+import com.pc.kilojoulesrest.service.StatisticService;
+import com.pc.kilojoulesrest.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+public class StatisticControllerITests {
+
+    private static final String USERNAME = "user for StatisticController integration test";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private JournalRepository journalRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @SpyBean
+    private StatisticService statisticService;
+
+    private String authorizedUser;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername(USERNAME).isEmpty()) {
+            userService.saveUser(User.builder()
+                    .username(USERNAME)
+                    .password(userService.encodePassword("user1pwd"))
+                    .roles("ROLE_USER")
+                    .build());
+        }
+        authorizedUser = "Bearer " + jwtService.generateToken(USERNAME);
+    }
+
+    @Test
+    @DisplayName("Integration test for dashboard answered with an ETag and revalidated with 304")
+    public void givenETag_whenFetchDashboardAgain_thenNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/statistics/dashboard")
+                        .param("startDate", "2024-02-01")
+                        .param("endDate", "2024-02-07")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.totals.totalKiloJoules").value(0))
+                .andExpect(jsonPath("$.topKiloJoules").isEmpty())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/statistics/dashboard")
+                        .param("startDate", "2024-02-01")
+                        .param("endDate", "2024-02-07")
+                        .header("Authorization", authorizedUser)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Integration test for totals revalidated after a journal write")
+    public void givenJournalWrite_whenFetchTotalsWithPreviousETag_thenOk() throws Exception {
+        String eTag = mockMvc.perform(get("/api/statistics/totals")
+                        .param("startDate", "2023-01-01")
+                        .param("endDate", "2023-01-07")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        Journal journal = journalRepository.save(Journal.builder()
+                .consumedAt(LocalDate.of(2023, 1, 3))
+                .mealType(MealType.BREAKFAST)
+                .journalFood(JournalFood.builder()
+                        .name("Apple")
+                        .quantity(new BigDecimal("100"))
+                        .kiloJoules(BigDecimal.TEN)
+                        .proteins(BigDecimal.ONE)
+                        .carbohydrates(BigDecimal.ONE)
+                        .fiber(BigDecimal.ONE)
+                        .fat(BigDecimal.ONE)
+                        .build())
+                .user(userRepository.findByUsername(USERNAME).orElseThrow())
+                .build());
+        try {
+            String newETag = mockMvc.perform(get("/api/statistics/totals")
+                            .param("startDate", "2023-01-01")
+                            .param("endDate", "2023-01-07")
+                            .header("Authorization", authorizedUser)
+                            .header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+            assertThat(newETag).isNotEqualTo(eTag);
+        } finally {
+            journalRepository.delete(journal);
+        }
+    }
+
+    @Test
+    @DisplayName("Integration test for totals following an edit of an existing journal food")
+    public void givenEditedJournalFood_whenFetchTotals_thenNewTotalsReturned() throws Exception {
+        Journal journal = journalRepository.save(Journal.builder()
+                .consumedAt(LocalDate.of(2021, 6, 2))
+                .mealType(MealType.DINNER)
+                .journalFood(JournalFood.builder()
+                        .name("Plum")
+                        .quantity(new BigDecimal("100"))
+                        .kiloJoules(BigDecimal.TEN)
+                        .proteins(BigDecimal.ONE)
+                        .carbohydrates(BigDecimal.ONE)
+                        .fiber(BigDecimal.ONE)
+                        .fat(BigDecimal.ONE)
+                        .build())
+                .user(userRepository.findByUsername(USERNAME).orElseThrow())
+                .build());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                JournalFood journalFood = journalRepository.findById(journal.getId()).orElseThrow().getJournalFood();
+                journalFood.setQuantity(new BigDecimal("250"));
+                journalFood.setKiloJoules(new BigDecimal("25"));
+            });
+
+            mockMvc.perform(get("/api/statistics/totals")
+                            .param("startDate", "2021-06-01")
+                            .param("endDate", "2021-06-07")
+                            .header("Authorization", authorizedUser))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalQuantity").value(250.00))
+                    .andExpect(jsonPath("$.totalKiloJoules").value(25.00))
+                    .andExpect(jsonPath("$.totalFat").value(1.00));
+        } finally {
+            journalRepository.delete(journal);
+        }
+    }
+
+    @Test
+    @DisplayName("Integration test for totals revalidated after an edit of an existing journal food")
+    public void givenJournalEdit_whenFetchTotalsWithPreviousETag_thenOk() throws Exception {
+        Journal journal = journalRepository.save(Journal.builder()
+                .consumedAt(LocalDate.of(2021, 8, 4))
+                .mealType(MealType.AFTERNOON_SNACK)
+                .journalFood(JournalFood.builder()
+                        .name("Cherry")
+                        .quantity(new BigDecimal("100"))
+                        .kiloJoules(BigDecimal.TEN)
+                        .proteins(BigDecimal.ONE)
+                        .carbohydrates(BigDecimal.ONE)
+                        .fiber(BigDecimal.ONE)
+                        .fat(BigDecimal.ONE)
+                        .build())
+                .user(userRepository.findByUsername(USERNAME).orElseThrow())
+                .build());
+        try {
+            String eTag = mockMvc.perform(get("/api/statistics/totals")
+                            .param("startDate", "2021-08-01")
+                            .param("endDate", "2021-08-07")
+                            .header("Authorization", authorizedUser))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            transactionTemplate.executeWithoutResult(status ->
+                    journalRepository.findById(journal.getId()).orElseThrow().getJournalFood().setFat(BigDecimal.TEN));
+
+            String newETag = mockMvc.perform(get("/api/statistics/totals")
+                            .param("startDate", "2021-08-01")
+                            .param("endDate", "2021-08-07")
+                            .header("Authorization", authorizedUser)
+                            .header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalFat").value(10.00))
+                    .andReturn().getResponse().getHeader("ETag");
+            assertThat(newETag).isNotEqualTo(eTag);
+        } finally {
+            journalRepository.delete(journal);
+        }
+    }
+
+    @Test
+    @DisplayName("Integration test for totals still not modified after a journal write outside the range")
+    public void givenJournalWriteOutsideRange_whenFetchTotalsWithPreviousETag_thenNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/statistics/totals")
+                        .param("startDate", "2022-01-01")
+                        .param("endDate", "2022-01-07")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        Journal journal = journalRepository.save(Journal.builder()
+                .consumedAt(LocalDate.of(2022, 2, 3))
+                .mealType(MealType.LUNCH)
+                .journalFood(JournalFood.builder()
+                        .name("Pear")
+                        .quantity(new BigDecimal("100"))
+                        .kiloJoules(BigDecimal.TEN)
+                        .proteins(BigDecimal.ONE)
+                        .carbohydrates(BigDecimal.ONE)
+                        .fiber(BigDecimal.ONE)
+                        .fat(BigDecimal.ONE)
+                        .build())
+                .user(userRepository.findByUsername(USERNAME).orElseThrow())
+                .build());
+        try {
+            mockMvc.perform(get("/api/statistics/totals")
+                            .param("startDate", "2022-01-01")
+                            .param("endDate", "2022-01-07")
+                            .header("Authorization", authorizedUser)
+                            .header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified());
+        } finally {
+            journalRepository.delete(journal);
+        }
+    }
+
+    @Test
+    @DisplayName("Integration test for top ten with a stale ETag")
+    public void givenStaleETag_whenFetchTopTen_thenOk() throws Exception {
+        mockMvc.perform(get("/api/statistics/top/{nutrient}", "FAT")
+                        .param("startDate", "2024-02-01")
+                        .param("endDate", "2024-02-07")
+                        .header("Authorization", authorizedUser)
+                        .header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    @DisplayName("Integration test for statistics with end date before start date")
+    public void givenReversedRange_whenFetchTotals_thenBadRequest() throws Exception {
+        mockMvc.perform(get("/api/statistics/totals")
+                        .param("startDate", "2024-02-07")
+                        .param("endDate", "2024-02-01")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Integration test for a dashboard rejected by the busy statistics executor")
+    public void givenBusyStatisticsExecutor_whenFetchDashboard_thenServiceUnavailable() throws Exception {
+        willThrow(new TaskRejectedException("Statistics executor is busy"))
+                .given(statisticService).fetchDashboard(any(), any(), any());
+
+        mockMvc.perform(get("/api/statistics/dashboard")
+                        .param("startDate", "2024-04-01")
+                        .param("endDate", "2024-04-07")
+                        .header("Authorization", authorizedUser))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("Integration test for more dashboards at once than there are pooled connections")
+    public void givenMoreDashboardsThanConnections_whenFetchedAtOnce_thenAllOk() throws Exception {
+        int dashboards = 16;
+        ExecutorService clients = Executors.newFixedThreadPool(dashboards);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < dashboards; i++) {
+                statuses.add(clients.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(get("/api/statistics/dashboard")
+                                    .param("startDate", "2024-03-01")
+                                    .param("endDate", "2024-03-31")
+                                    .header("Authorization", authorizedUser))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get(20, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.DailyNutritionSummary;
+import com.pc.kilojoulesrest.entity.MealType;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:summarydb;MODE=MySQL")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DailyNutritionSummaryRepositoryTest {
+
+    @Autowired
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        user = userRepository.save(User.builder()
+                .username("summaryUser")
+                .password("testPassword")
+                .roles("ROLE_USER")
+                .build());
+
+        dailyNutritionSummaryRepository.save(DailyNutritionSummary.builder()
+                .user(user)
+                .consumedAt(today)
+                .mealType(MealType.BREAKFAST)
+                .quantity(new BigDecimal("100"))
+                .kiloJoules(new BigDecimal("400"))
+                .proteins(new BigDecimal("10"))
+                .carbohydrates(new BigDecimal("20"))
+                .fiber(new BigDecimal("2"))
+                .fat(new BigDecimal("5"))
+                .entryCount(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("JUnit test for upserting a delta into an existing summary row")
+    void givenExistingRow_whenUpsertDelta_thenRowIsUpdated() {
+        dailyNutritionSummaryRepository.upsertDelta(user.getId(), today, MealType.BREAKFAST.ordinal(),
+                new BigDecimal("50"), new BigDecimal("200"), new BigDecimal("5"),
+                new BigDecimal("10"), BigDecimal.ONE, new BigDecimal("-5"), 1);
+
+        JournalTotalsDTO totals = dailyNutritionSummaryRepository.sumTotalsByUserAndConsumedAtBetween(user, today, today);
+
+        assertThat(dailyNutritionSummaryRepository.findAllByUserAndConsumedAtBetween(user, today, today)).hasSize(1);
+        assertThat(totals.getTotalQuantity()).isEqualByComparingTo("150");
+        assertThat(totals.getTotalKiloJoules()).isEqualByComparingTo("600");
+        assertThat(totals.getTotalCarbohydrates()).isEqualByComparingTo("30");
+        assertThat(totals.getTotalFat()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("JUnit test for upserting a delta when there is no summary row yet")
+    void givenNoRow_whenUpsertDelta_thenRowIsCreated() {
+        dailyNutritionSummaryRepository.upsertDelta(user.getId(), today, MealType.DINNER.ordinal(),
+                BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, 1);
+
+        JournalTotalsDTO totals = dailyNutritionSummaryRepository.sumTotalsByUserAndConsumedAtBetween(user, today, today);
+
+        assertThat(dailyNutritionSummaryRepository.findAllByUserAndConsumedAtBetween(user, today, today)).hasSize(2);
+        assertThat(totals.getTotalKiloJoules()).isEqualByComparingTo("410");
+    }
+
+    @Test
+    @DisplayName("JUnit test for period totals read from the summary rows")
+    void givenRowsOnSeveralDays_whenSumTotalsByPeriod_thenReturnsSummedTotals() {
+        dailyNutritionSummaryRepository.save(DailyNutritionSummary.builder()
+                .user(user)
+                .consumedAt(today.minusDays(1))
+                .mealType(MealType.LUNCH)
+                .quantity(new BigDecimal("200"))
+                .kiloJoules(new BigDecimal("800"))
+                .entryCount(2)
+                .build());
+
+        JournalTotalsDTO totals = dailyNutritionSummaryRepository.sumTotalsByUserAndConsumedAtBetween(user, today.minusDays(1), today);
+        JournalTotalsDTO empty = dailyNutritionSummaryRepository.sumTotalsByUserAndConsumedAtBetween(user, today.plusDays(1), today.plusDays(7));
+
+        assertThat(totals.getTotalQuantity()).isEqualByComparingTo("300");
+        assertThat(totals.getTotalKiloJoules()).isEqualByComparingTo("1200");
+        assertThat(totals.getTotalProteins()).isEqualByComparingTo("10");
+        assertThat(empty.getTotalKiloJoules()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("JUnit test for range version bumped by every upsert in the range")
+    void givenUpsertInRange_whenSumVersions_thenSumGrows() {
+        long before = dailyNutritionSummaryRepository.sumVersionsByUserIdAndConsumedAtBetween(user.getId(), today, today);
+
+        dailyNutritionSummaryRepository.upsertDelta(user.getId(), today, MealType.BREAKFAST.ordinal(),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+        dailyNutritionSummaryRepository.upsertDelta(user.getId(), today.minusDays(3), MealType.LUNCH.ordinal(),
+                BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, 1);
+
+        assertThat(dailyNutritionSummaryRepository.sumVersionsByUserIdAndConsumedAtBetween(user.getId(), today, today))
+                .isEqualTo(before + 1);
+        assertThat(dailyNutritionSummaryRepository.sumVersionsByUserIdAndConsumedAtBetween(user.getId(), today.plusDays(1), today.plusDays(7)))
+                .isZero();
+    }
+}
@@ -148,7 +148,7 @@ class FoodRepositoryTests {
     }
 
     @Test
-    @DisplayName("JUnit test for findAllByNameContains")
+    @DisplayName("JUnit test for findAllByNameNormalizedContaining")
     void givenString_whenFindAllByName_thenReturnPage() {
         Food mango = Food.builder()
                 .name("Mango")
@@ -171,10 +171,32 @@ class FoodRepositoryTests {
         foodRepository.save(mango);
 
         Pageable pageable = PageRequest.of(0, 25, Sort.Direction.ASC, "name");
-        Page<Food> foods = foodRepository.findAllByNameContainsIgnoreCase("man", pageable);
+        Page<Food> foods = foodRepository.findAllByNameNormalizedContaining("man", pageable);
 
         assertThat(foods).isNotEmpty();
         assertThat(foods).hasSize(1);
         assertThat(foods.getContent().get(0).getName()).isEqualTo("Mango");
     }
+
+    @Test
+    @DisplayName("JUnit test for findAllByNameNormalizedStartingWith")
+    void givenAccentedName_whenFindAllByNameNormalizedStartingWith_thenReturnPage() {
+        Food rizek = Food.builder()
+                .name("Řízek vepřový")
+                .kiloJoules(BigDecimal.TEN)
+                .proteins(BigDecimal.TEN)
+                .carbohydrates(BigDecimal.TEN)
+                .fat(BigDecimal.TEN)
+                .build();
+        foodRepository.save(rizek);
+
+        Pageable pageable = PageRequest.of(0, 25, Sort.Direction.ASC, "name");
+        Page<Food> byPrefix = foodRepository.findAllByNameNormalizedStartingWith("rizek", pageable);
+        Page<Food> byContains = foodRepository.findAllByNameNormalizedContaining("veprovy", pageable);
+
+        assertThat(rizek.getNameNormalized()).isEqualTo("rizek veprovy");
+        assertThat(byPrefix).hasSize(1);
+        assertThat(byPrefix.getContent().get(0).getName()).isEqualTo("Řízek vepřový");
+        assertThat(byContains).hasSize(1);
+    }
 }
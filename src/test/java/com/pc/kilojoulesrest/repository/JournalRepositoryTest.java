@@ -0,0 +1,215 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.model.JournalEntryDTO;
+import com.pc.kilojoulesrest.model.TopTenDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+
+@DataJpaTest
+class JournalRepositoryTest {
+
+    @Autowired
+    private JournalRepository journalRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        user = userRepository.save(User.builder()
+                .username("journalUser")
+                .password("testPassword")
+                .roles("ROLE_USER")
+                .build());
+
+        JournalFood apple = JournalFood.builder()
+                .name("Apple")
+                .quantity(ONE_HUNDRED)
+                .kiloJoules(BigDecimal.TEN)
+                .proteins(BigDecimal.ONE)
+                .carbohydrates(new BigDecimal("2"))
+                .fiber(BigDecimal.ONE)
+                .fat(BigDecimal.ONE)
+                .build();
+        journalRepository.save(Journal.builder()
+                .consumedAt(today)
+                .mealType(MealType.BREAKFAST)
+                .journalFood(apple)
+                .user(user)
+                .build());
+
+        JournalMeal lunch = JournalMeal.builder()
+                .mealName("Lunch")
+                .saved(true)
+                .quantity(new BigDecimal("200"))
+                .kiloJoules(new BigDecimal("50"))
+                .proteins(new BigDecimal("5"))
+                .carbohydrates(new BigDecimal("6"))
+                .fiber(new BigDecimal("2"))
+                .fat(new BigDecimal("3"))
+                .build();
+        journalRepository.save(Journal.builder()
+                .consumedAt(today.minusDays(1))
+                .mealType(MealType.LUNCH)
+                .journalMeal(lunch)
+                .user(user)
+                .build());
+    }
+
+    @Test
+    @DisplayName("JUnit test for top N ranking across food and meal entries")
+    void givenFoodAndMealEntries_whenFindTopByNutrient_thenReturnsRankedProjections() {
+        List<TopTenDTO> ranked = journalRepository.findTopByNutrient(user, today.minusDays(1), today, Nutrient.KILOJOULES, 10);
+
+        assertThat(ranked).hasSize(2);
+        assertThat(ranked.get(0).getName()).isEqualTo("Lunch");
+        assertThat(ranked.get(0).getMealId()).isNotNull();
+        assertThat(ranked.get(0).getFoodId()).isNull();
+        assertThat(ranked.get(0).getKiloJoules()).isEqualByComparingTo("50");
+        assertThat(ranked.get(1).getName()).isEqualTo("Apple");
+        assertThat(ranked.get(1).getFoodId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("JUnit test for top N ranking limit")
+    void givenLimit_whenFindTopByNutrient_thenReturnsAtMostLimitRows() {
+        List<TopTenDTO> ranked = journalRepository.findTopByNutrient(user, today.minusDays(1), today, Nutrient.FAT, 1);
+
+        assertThat(ranked).hasSize(1);
+        assertThat(ranked.get(0).getFat()).isEqualByComparingTo("3");
+    }
+
+    @Test
+    @DisplayName("JUnit test for top N ranking with ties ordered by name")
+    void givenEqualAmounts_whenFindTopByNutrient_thenTiesAreOrderedByName() {
+        JournalFood banana = JournalFood.builder()
+                .name("Banana")
+                .quantity(ONE_HUNDRED)
+                .kiloJoules(BigDecimal.TEN)
+                .proteins(BigDecimal.ONE)
+                .carbohydrates(BigDecimal.ONE)
+                .fat(BigDecimal.ONE)
+                .build();
+        journalRepository.save(Journal.builder()
+                .consumedAt(today)
+                .mealType(MealType.AFTERNOON_SNACK)
+                .journalFood(banana)
+                .user(user)
+                .build());
+
+        List<TopTenDTO> ranked = journalRepository.findTopByNutrient(user, today.minusDays(1), today, Nutrient.KILOJOULES, 10);
+
+        assertThat(ranked).extracting(TopTenDTO::getName).containsExactly("Lunch", "Apple", "Banana");
+    }
+
+    @Test
+    @DisplayName("JUnit test for top N by count grouped over the whole date range")
+    void givenRepeatedEntries_whenFindTopByNutrientGroupedByName_thenCountsAllEntries() {
+        JournalFood latestApple = null;
+        for (int i = 0; i < 11; i++) {
+            JournalFood apple = JournalFood.builder()
+                    .name("Apple")
+                    .quantity(ONE_HUNDRED)
+                    .kiloJoules(BigDecimal.TEN)
+                    .proteins(BigDecimal.ONE)
+                    .carbohydrates(BigDecimal.ONE)
+                    .fat(BigDecimal.ONE)
+                    .build();
+            journalRepository.save(Journal.builder()
+                    .consumedAt(today.minusDays(2))
+                    .mealType(MealType.DINNER)
+                    .journalFood(apple)
+                    .user(user)
+                    .build());
+            latestApple = apple;
+        }
+
+        List<TopTenDTO> grouped = journalRepository.findTopByNutrientGroupedByName(user, today.minusDays(2), today, Nutrient.KILOJOULES, 10);
+
+        assertThat(grouped).hasSize(2);
+        assertThat(grouped.get(0).getName()).isEqualTo("Apple");
+        assertThat(grouped.get(0).getCount()).isEqualTo(12);
+        assertThat(grouped.get(0).getFoodId()).isEqualTo(latestApple.getId());
+        assertThat(grouped.get(0).getKiloJoules()).isEqualByComparingTo("120");
+        assertThat(grouped.get(1).getName()).isEqualTo("Lunch");
+        assertThat(grouped.get(1).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit test for a food and a meal of the same name ranked as separate items")
+    void givenFoodAndMealWithSameName_whenFindTopByNutrientGroupedByName_thenKindsAreNotMixed() {
+        JournalFood lunchFood = JournalFood.builder()
+                .name("Lunch")
+                .quantity(ONE_HUNDRED)
+                .kiloJoules(new BigDecimal("30"))
+                .proteins(BigDecimal.ONE)
+                .carbohydrates(BigDecimal.ONE)
+                .fat(BigDecimal.ONE)
+                .build();
+        journalRepository.save(Journal.builder()
+                .consumedAt(today)
+                .mealType(MealType.LUNCH)
+                .journalFood(lunchFood)
+                .user(user)
+                .build());
+
+        List<TopTenDTO> grouped = journalRepository.findTopByNutrientGroupedByName(user, today.minusDays(1), today, Nutrient.KILOJOULES, 10);
+
+        assertThat(grouped).hasSize(3);
+        assertThat(grouped).filteredOn(item -> "Lunch".equals(item.getName())).hasSize(2)
+                .anySatisfy(item -> {
+                    assertThat(item.getMealId()).isNotNull();
+                    assertThat(item.getFoodId()).isNull();
+                    assertThat(item.getKiloJoules()).isEqualByComparingTo("50");
+                })
+                .anySatisfy(item -> {
+                    assertThat(item.getFoodId()).isEqualTo(lunchFood.getId());
+                    assertThat(item.getMealId()).isNull();
+                    assertThat(item.getKiloJoules()).isEqualByComparingTo("30");
+                });
+    }
+
+    @Test
+    @DisplayName("JUnit test for day entries projected in one query")
+    void givenFoodAndMealEntries_whenFindDayEntriesByUserId_thenReturnsEntriesOfThatDay() {
+        List<JournalEntryDTO> todayEntries = journalRepository.findDayEntriesByUserId(user.getId(), today);
+        List<JournalEntryDTO> yesterdayEntries = journalRepository.findDayEntriesByUserId(user.getId(), today.minusDays(1));
+
+        assertThat(todayEntries).hasSize(1);
+        assertThat(todayEntries.get(0).getName()).isEqualTo("Apple");
+        assertThat(todayEntries.get(0).getFoodId()).isNotNull();
+        assertThat(todayEntries.get(0).getMealId()).isNull();
+        assertThat(todayEntries.get(0).getMealType()).isEqualTo(MealType.BREAKFAST);
+        assertThat(yesterdayEntries).hasSize(1);
+        assertThat(yesterdayEntries.get(0).getName()).isEqualTo("Lunch");
+        assertThat(yesterdayEntries.get(0).getKiloJoules()).isEqualByComparingTo("50");
+    }
+
+    @Test
+    @DisplayName("JUnit test for owners looked up by journal food and journal meal ids")
+    void givenFoodAndMealEntries_whenFindUserIdsByEntryIds_thenReturnsOwner() {
+        List<Journal> journals = journalRepository.findAll();
+        List<Long> foodIds = journals.stream().filter(j -> j.getJournalFood() != null).map(j -> j.getJournalFood().getId()).toList();
+        List<Long> mealIds = journals.stream().filter(j -> j.getJournalMeal() != null).map(j -> j.getJournalMeal().getId()).toList();
+
+        assertThat(journalRepository.findUserIdsByJournalFoodIdIn(foodIds)).containsExactly(user.getId());
+        assertThat(journalRepository.findUserIdsByJournalMealIdIn(mealIds)).containsExactly(user.getId());
+        assertThat(journalRepository.findUserIdsByJournalFoodIdIn(List.of(-1L))).isEmpty();
+    }
+}
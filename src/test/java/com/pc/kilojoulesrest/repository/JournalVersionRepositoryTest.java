@@ -0,0 +1,57 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.JournalVersion;
+import com.pc.kilojoulesrest.entity.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:versiondb;MODE=MySQL")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JournalVersionRepositoryTest {
+
+    @Autowired
+    private JournalVersionRepository journalVersionRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("versionUser")
+                .password("testPassword")
+                .roles("ROLE_USER")
+                .build());
+    }
+
+    @Test
+    @DisplayName("JUnit test for incrementing the journal version of a user without a version row")
+    void givenNoRow_whenIncrementVersion_thenRowIsCreated() {
+        assertThat(journalVersionRepository.findVersionByUserId(user.getId())).isEmpty();
+
+        journalVersionRepository.incrementVersion(user.getId());
+
+        assertThat(journalVersionRepository.findVersionByUserId(user.getId())).contains(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit test for incrementing an existing journal version")
+    void givenExistingRow_whenIncrementVersion_thenVersionIsBumped() {
+        journalVersionRepository.save(JournalVersion.builder()
+                .userId(user.getId())
+                .version(1L)
+                .build());
+
+        journalVersionRepository.incrementVersion(user.getId());
+
+        assertThat(journalVersionRepository.findVersionByUserId(user.getId())).contains(2L);
+    }
+}
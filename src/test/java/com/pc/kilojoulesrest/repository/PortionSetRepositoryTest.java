@@ -0,0 +1,159 @@
+package com.pc.kilojoulesrest.repository;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.model.JournalEntryFoodDto;
+import com.pc.kilojoulesrest.model.JournalMealFoodDto;
+import com.pc.kilojoulesrest.model.PortionResponseDTO;
+import com.pc.kilojoulesrest.service.PortionSetServiceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:portionsetdb;MODE=MySQL")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PortionSetServiceImpl.class)
+class PortionSetRepositoryTest {
+
+    @Autowired
+    private PortionSetRepository portionSetRepository;
+    @Autowired
+    private JournalRepository journalRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PortionSetServiceImpl portionSetService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private List<Portion> portions;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("portionSetUser")
+                .password("testPassword")
+                .roles("ROLE_USER")
+                .build());
+        Food food = Food.builder().name("Apple").build();
+        portions = List.of(portion(food, "100 g", "100"), portion(food, "1 piece", "180"), portion(food, "1 g", "1"));
+    }
+
+    @Test
+    @DisplayName("JUnit test for a resolved portion set stored once with its portions in canonical order")
+    void givenPortionsInAnyOrder_whenResolvePortionSetTwice_thenOneSetIsStoredInCanonicalOrder() {
+        PortionSet first = portionSetService.resolvePortionSet(portions);
+        PortionSet second = portionSetService.resolvePortionSet(List.of(portions.get(2), portions.get(0), portions.get(1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(second.getHash()).isEqualTo(first.getHash());
+        assertThat(portionSetRepository.count()).isEqualTo(1);
+        PortionSet stored = portionSetRepository.findById(first.getHash()).orElseThrow();
+        assertThat(stored.getPortions()).extracting(PortionSnapshot::getPortionName)
+                .containsExactly("1 g", "100 g", "1 piece");
+        assertThat(stored.getPortions()).extracting(PortionSnapshot::getPortionSize)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.ONE, new BigDecimal("100"), new BigDecimal("180"));
+    }
+
+    @Test
+    @DisplayName("JUnit test for inserting an existing portion set without failing")
+    void givenExistingPortionSet_whenInsertIgnore_thenNoDuplicateIsWritten() {
+        PortionSet portionSet = portionSetService.resolvePortionSet(portions);
+
+        int inserted = portionSetRepository.insertIgnore(portionSet.getHash());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(inserted).isZero();
+        assertThat(portionSetRepository.count()).isEqualTo(1);
+        assertThat(portionSetRepository.findById(portionSet.getHash()).orElseThrow().getPortions()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("JUnit test for journal DTOs built from a shared portion set")
+    void givenJournalEntriesSharingPortionSet_whenFromEntity_thenPortionsAreMapped() {
+        PortionSet portionSet = portionSetService.resolvePortionSet(portions);
+        JournalFood journalFood = JournalFood.builder()
+                .name("Apple")
+                .quantity(new BigDecimal("100"))
+                .kiloJoules(new BigDecimal("220"))
+                .proteins(BigDecimal.ZERO)
+                .carbohydrates(new BigDecimal("12"))
+                .fiber(new BigDecimal("2"))
+                .fat(BigDecimal.ZERO)
+                .portionSet(portionSet)
+                .build();
+        Journal foodJournal = journalRepository.save(Journal.builder()
+                .consumedAt(LocalDate.now())
+                .mealType(MealType.AFTERNOON_SNACK)
+                .journalFood(journalFood)
+                .user(user)
+                .build());
+
+        JournalMeal journalMeal = JournalMeal.builder()
+                .mealName("Fruit")
+                .saved(false)
+                .quantity(new BigDecimal("100"))
+                .kiloJoules(new BigDecimal("220"))
+                .proteins(BigDecimal.ZERO)
+                .carbohydrates(new BigDecimal("12"))
+                .fiber(new BigDecimal("2"))
+                .fat(BigDecimal.ZERO)
+                .build();
+        JournalMealFood journalMealFood = JournalMealFood.builder()
+                .journalMeal(journalMeal)
+                .name("Apple")
+                .quantity(new BigDecimal("100"))
+                .kiloJoules(new BigDecimal("220"))
+                .proteins(BigDecimal.ZERO)
+                .carbohydrates(new BigDecimal("12"))
+                .fat(BigDecimal.ZERO)
+                .portionSet(portionSet)
+                .build();
+        journalMeal.setJournalMealFoods(Set.of(journalMealFood));
+        journalRepository.save(Journal.builder()
+                .consumedAt(LocalDate.now())
+                .mealType(MealType.LUNCH)
+                .journalMeal(journalMeal)
+                .user(user)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Journal loaded = journalRepository.findById(foodJournal.getId()).orElseThrow();
+        JournalEntryFoodDto foodDto = JournalEntryFoodDto.fromEntity(loaded, loaded.getJournalFood());
+        JournalMealFood loadedMealFood = entityManager.find(JournalMealFood.class, journalMealFood.getId());
+        JournalMealFoodDto mealFoodDto = JournalMealFoodDto.fromEntity(loadedMealFood);
+
+        assertThat(portionSetRepository.count()).isEqualTo(1);
+        assertThat(foodDto.getPortions()).extracting(PortionResponseDTO::getPortionName)
+                .containsExactly("1 g", "100 g", "1 piece");
+        assertThat(foodDto.getPortions()).extracting(PortionResponseDTO::getFoodId)
+                .containsOnly(loaded.getJournalFood().getId());
+        assertThat(mealFoodDto.getPortions()).extracting(JournalMealFoodDto.JournalMealFoodPortionDto::getPortionName)
+                .containsExactly("1 g", "100 g", "1 piece");
+    }
+
+    private static Portion portion(Food food, String name, String size) {
+        return Portion.builder()
+                .portionName(name)
+                .portionSize(new BigDecimal(size))
+                .food(food)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.repository.DailyNutritionSummaryRepository;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DailyNutritionSummaryServiceTest {
+
+    @Mock
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Mock
+    private JournalRepository journalRepository;
+    @Mock
+    private EntityManager entityManager;
+    @InjectMocks
+    private DailyNutritionSummaryServiceImpl dailyNutritionSummaryService;
+
+    private User user;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("summaryUser").password("testPassword").build();
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("JUnit test for a new journal entry counted on its day")
+    void givenNewJournal_whenApplyChanges_thenTotalsAreAdded() {
+        Journal journal = journalWithFood(today, MealType.LUNCH, journalFood(new BigDecimal("150"), new BigDecimal("600")));
+        JournalChanges changes = new JournalChanges();
+        changes.getJournals().add(journal);
+
+        dailyNutritionSummaryService.applyChanges(changes);
+
+        verify(dailyNutritionSummaryRepository).upsertDelta(eq(1L), eq(today), eq(MealType.LUNCH.ordinal()),
+                eq(new BigDecimal("150")), eq(new BigDecimal("600")), eq(BigDecimal.ZERO), eq(BigDecimal.ZERO),
+                eq(BigDecimal.ZERO), eq(BigDecimal.ZERO), eq(1));
+        assertThat(journal.getCountedConsumedAt()).isEqualTo(today);
+        assertThat(journal.getJournalFood().getCountedTotals().kiloJoules()).isEqualByComparingTo("600");
+    }
+
+    @Test
+    @DisplayName("JUnit test for an edited journal entry moved to another day and meal type")
+    void givenEditedJournal_whenApplyChanges_thenCountedTotalsMoveToTheNewRow() {
+        JournalFood journalFood = journalFood(new BigDecimal("150"), new BigDecimal("600"));
+        journalFood.setCountedTotals(new JournalEntryTotals(new BigDecimal("100"), new BigDecimal("400"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
+        Journal journal = journalWithFood(today, MealType.LUNCH, journalFood);
+        journal.setCountedConsumedAt(today.minusDays(1));
+        journal.setCountedMealType(MealType.BREAKFAST);
+        JournalChanges changes = new JournalChanges();
+        changes.getJournals().add(journal);
+
+        dailyNutritionSummaryService.applyChanges(changes);
+
+        verify(dailyNutritionSummaryRepository).upsertDelta(eq(1L), eq(today.minusDays(1)), eq(MealType.BREAKFAST.ordinal()),
+                eq(new BigDecimal("-100")), eq(new BigDecimal("-400")), eq(BigDecimal.ZERO), eq(BigDecimal.ZERO),
+                eq(BigDecimal.ZERO), eq(BigDecimal.ZERO), eq(-1));
+        verify(dailyNutritionSummaryRepository).upsertDelta(eq(1L), eq(today), eq(MealType.LUNCH.ordinal()),
+                eq(new BigDecimal("150")), eq(new BigDecimal("600")), eq(BigDecimal.ZERO), eq(BigDecimal.ZERO),
+                eq(BigDecimal.ZERO), eq(BigDecimal.ZERO), eq(1));
+        verifyNoMoreInteractions(dailyNutritionSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("JUnit test for a journal meal edited without its journal entry being loaded")
+    void givenEditedJournalMeal_whenApplyChanges_thenDifferenceIsAddedToTheJournalRow() {
+        JournalMeal journalMeal = JournalMeal.builder()
+                .id(7L)
+                .mealName("Lunch")
+                .quantity(new BigDecimal("300"))
+                .kiloJoules(new BigDecimal("900"))
+                .proteins(BigDecimal.ZERO)
+                .carbohydrates(BigDecimal.ZERO)
+                .fiber(BigDecimal.ZERO)
+                .fat(BigDecimal.ZERO)
+                .journalMealFoods(Set.of())
+                .build();
+        journalMeal.setCountedTotals(new JournalEntryTotals(new BigDecimal("200"), new BigDecimal("700"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
+        Journal journal = Journal.builder()
+                .id(3L)
+                .user(user)
+                .consumedAt(today)
+                .mealType(MealType.DINNER)
+                .journalMeal(journalMeal)
+                .countedConsumedAt(today)
+                .countedMealType(MealType.DINNER)
+                .build();
+        JournalChanges changes = new JournalChanges();
+        changes.getJournalMealIds().add(7L);
+        given(journalRepository.findAllByJournalMealIdIn(changes.getJournalMealIds())).willReturn(List.of(journal));
+
+        dailyNutritionSummaryService.applyChanges(changes);
+
+        verify(dailyNutritionSummaryRepository).upsertDelta(eq(1L), eq(today), eq(MealType.DINNER.ordinal()),
+                eq(new BigDecimal("100")), eq(new BigDecimal("200")), eq(BigDecimal.ZERO), eq(BigDecimal.ZERO),
+                eq(BigDecimal.ZERO), eq(BigDecimal.ZERO), eq(0));
+        assertThat(journalMeal.getCountedTotals().quantity()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    @DisplayName("JUnit test for a removed journal entry subtracted from its row")
+    void givenRemovedJournal_whenApplyChanges_thenCountedTotalsAreSubtracted() {
+        JournalFood journalFood = journalFood(new BigDecimal("150"), new BigDecimal("600"));
+        journalFood.setCountedTotals(JournalEntryTotals.of(journalFood));
+        Journal journal = journalWithFood(today, MealType.LUNCH, journalFood);
+        journal.setCountedConsumedAt(today);
+        journal.setCountedMealType(MealType.LUNCH);
+        JournalChanges changes = new JournalChanges();
+        changes.getJournals().add(journal);
+        changes.getRemovedJournals().add(journal);
+
+        dailyNutritionSummaryService.applyChanges(changes);
+
+        verify(dailyNutritionSummaryRepository).upsertDelta(eq(1L), eq(today), eq(MealType.LUNCH.ordinal()),
+                eq(new BigDecimal("-150")), eq(new BigDecimal("-600")), eq(BigDecimal.ZERO), eq(BigDecimal.ZERO),
+                eq(BigDecimal.ZERO), eq(BigDecimal.ZERO), eq(-1));
+    }
+
+    private Journal journalWithFood(LocalDate consumedAt, MealType mealType, JournalFood journalFood) {
+        return Journal.builder()
+                .id(2L)
+                .user(user)
+                .consumedAt(consumedAt)
+                .mealType(mealType)
+                .journalFood(journalFood)
+                .build();
+    }
+
+    private JournalFood journalFood(BigDecimal quantity, BigDecimal kiloJoules) {
+        return JournalFood.builder()
+                .id(5L)
+                .name("Apple")
+                .quantity(quantity)
+                .kiloJoules(kiloJoules)
+                .proteins(BigDecimal.ZERO)
+                .carbohydrates(BigDecimal.ZERO)
+                .fiber(BigDecimal.ZERO)
+                .fat(BigDecimal.ZERO)
+                .build();
+    }
+}
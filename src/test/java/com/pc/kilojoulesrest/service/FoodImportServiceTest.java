@@ -0,0 +1,192 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.model.FoodImportMode;
+import com.pc.kilojoulesrest.model.FoodImportResult;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.util.StringNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FoodImportServiceTest {
+
+    private static final String HEADER = "\"Název\";\"Čas zápisu\";\"Množství\";\"kJ\";\"Bílkoviny [g]\";\"Sacharidy [g]\";\"Cukry [g]\";\"Tuky [g]\";\"Nasycené mastné kyseliny [g]\";\"Trans mastné kyseliny [g]\";\"Cholesterol [mg]\";\"Vláknina [g]\";\"Sodík [mg]\";\"Vápník [g]\";\"PHE [mg]\"\n";
+
+    @Mock
+    private FoodRepository foodRepository;
+    @Mock
+    private FoodSearchIndex foodSearchIndex;
+    @Mock
+    private FoodCatalogCache foodCatalogCache;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FoodImportServiceImpl foodImportService;
+
+    @BeforeEach
+    void setUp() {
+        foodImportService = new FoodImportServiceImpl(foodRepository, new FoodCsvServiceImpl(), foodSearchIndex, foodCatalogCache, entityManager,
+                transactionManager, Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    }
+
+    @Test
+    @DisplayName("JUnit test for streaming CSV import in batches")
+    void givenCsvWithInvalidRow_whenImportFoods_thenSavesValidRowsInBatchesAndReportsSkipped() {
+        String csv = HEADER
+                + "\"Omacka Kaiser Bolognese\";01.02.2024;100;412;4;7;5;6;2;;;;;;0,22\n"
+                + "\"Negative\";01.02.2024;100;-5;1;1;1;1;1;;;;;;\n"
+                + "\"Brambory\";01.02.2024;;320;2;17;1;0,1;;;;;;;\n"
+                + "\"Cibule\";01.02.2024;100;150;1,2;7;4;0,2;;;;;;;\n";
+        List<List<Food>> batches = new ArrayList<>();
+        given(foodRepository.saveAll(anyIterable())).willAnswer(invocation -> {
+            List<Food> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            return batch;
+        });
+        List<Integer> progress = new ArrayList<>();
+
+        FoodImportResult result = foodImportService.importFoods(new StringReader(csv), r -> progress.add(r.getImported()));
+
+        assertThat(result.getProcessed()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().asString().startsWith("Line 3:");
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(Food::getName).containsExactly("Omacka Kaiser Bolognese", "Brambory");
+        assertThat(batches.get(0).get(1).getQuantity()).isEqualByComparingTo("0");
+        assertThat(batches.get(0).get(0).getPortions()).extracting(Portion::getPortionName).containsExactly("1 g", "100 g");
+        assertThat(progress).containsExactly(2, 3);
+        verify(entityManager, times(2)).flush();
+    }
+
+    @Test
+    @DisplayName("JUnit test for CSV import skipping unparseable rows")
+    void givenUnparseableRow_whenImportFoods_thenRowIsReportedAsSkipped() {
+        String csv = HEADER
+                + "\"Omacka Kaiser Bolognese\";01.02.2024;100;412;4;7;5;6;2;;;;;;0,22\n"
+                + "\"Broken\";not a date;100;412;4;7;5;6;2;;;;;;\n";
+        given(foodRepository.saveAll(anyIterable())).willAnswer(invocation -> invocation.getArgument(0));
+
+        FoodImportResult result = foodImportService.importFoods(new StringReader(csv));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().asString().startsWith("Line 3:");
+    }
+
+    @Test
+    @DisplayName("JUnit test for CSV import errors numbered by file line around unparseable rows")
+    void givenUnparseableRowBeforeInvalidRow_whenImportFoods_thenErrorsUseFileLines() {
+        String csv = HEADER
+                + "\"Broken\";not a date;100;412;4;7;5;6;2;;;;;;\n"
+                + "\"Omacka Kaiser Bolognese\";01.02.2024;100;412;4;7;5;6;2;;;;;;0,22\n"
+                + "\"Negative\";01.02.2024;100;-5;1;1;1;1;1;;;;;;\n";
+        given(foodRepository.saveAll(anyIterable())).willAnswer(invocation -> invocation.getArgument(0));
+
+        FoodImportResult result = foodImportService.importFoods(new StringReader(csv));
+
+        assertThat(result.getProcessed()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).hasSize(2)
+                .anySatisfy(error -> assertThat(error).startsWith("Line 2:"))
+                .anySatisfy(error -> assertThat(error).startsWith("Line 4:"));
+    }
+
+    @Test
+    @DisplayName("JUnit test for CSV import in upsert mode")
+    void givenExistingFoods_whenImportFoodsUpsert_thenInsertsNewAndUpdatesOnlyChanged() {
+        String csv = HEADER
+                + "\"Omáčka Kaiser Bolognese\";01.02.2024;100;412;4;7;5;6;2;;;;;;0,22\n"
+                + "\"Brambory\";01.02.2024;100;330;2;17;1;0,1;;;;;;;\n"
+                + "\"Cibule\";01.02.2024;100;150;1,2;7;4;0,2;;;;;;;\n";
+        Food omacka = existingFood(1L, "Omacka Kaiser Bolognese", "412", "4", "7", "5", "6", "2", "0.22");
+        Food brambory = existingFood(2L, "Brambory", "320", "2", "17", "1", "0.1", "0", "0");
+        given(foodRepository.findAllByNameNormalizedIn(anyCollection())).willReturn(List.of(omacka, brambory));
+        List<Food> saved = new ArrayList<>();
+        given(foodRepository.saveAll(anyIterable())).willAnswer(invocation -> {
+            List<Food> batch = invocation.getArgument(0);
+            saved.addAll(batch);
+            return batch;
+        });
+
+        FoodImportResult result = foodImportService.importFoods(new StringReader(csv), FoodImportMode.UPSERT, r -> {});
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(saved).extracting(Food::getName).containsExactly("Cibule");
+        assertThat(brambory.getKiloJoules()).isEqualByComparingTo("330");
+        verify(foodCatalogCache).evict(2L);
+        verify(foodCatalogCache, never()).evict(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit test for CSV upsert counting duplicate rows merged into an earlier row")
+    void givenDuplicateRows_whenImportFoodsUpsert_thenEveryRowIsCounted() {
+        String csv = HEADER
+                + "\"Cibule\";01.02.2024;100;150;1,2;7;4;0,2;;;;;;;\n"
+                + "\"Cibule\";01.02.2024;100;160;1,2;7;4;0,2;;;;;;;\n"
+                + "\"Brambory\";01.02.2024;100;330;2;17;1;0,1;;;;;;;\n"
+                + "\"Brambory\";01.02.2024;100;340;2;17;1;0,1;;;;;;;\n";
+        foodImportService = new FoodImportServiceImpl(foodRepository, new FoodCsvServiceImpl(), foodSearchIndex, foodCatalogCache, entityManager,
+                transactionManager, Validation.buildDefaultValidatorFactory().getValidator(), 10);
+        Food brambory = existingFood(2L, "Brambory", "320", "2", "17", "1", "0.1", "0", "0");
+        given(foodRepository.findAllByNameNormalizedIn(anyCollection())).willReturn(List.of(brambory));
+        List<Food> saved = new ArrayList<>();
+        given(foodRepository.saveAll(anyIterable())).willAnswer(invocation -> {
+            List<Food> batch = invocation.getArgument(0);
+            saved.addAll(batch);
+            return batch;
+        });
+
+        FoodImportResult result = foodImportService.importFoods(new StringReader(csv), FoodImportMode.UPSERT, r -> {});
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getMerged()).isEqualTo(2);
+        assertThat(result.getImported() + result.getUpdated() + result.getUnchanged() + result.getMerged() + result.getSkipped())
+                .isEqualTo(result.getProcessed());
+        assertThat(saved).singleElement().satisfies(food -> assertThat(food.getKiloJoules()).isEqualByComparingTo("160"));
+        assertThat(brambory.getKiloJoules()).isEqualByComparingTo("340");
+    }
+
+    private static Food existingFood(Long id, String name, String kiloJoules, String proteins, String carbohydrates,
+                                     String sugar, String fat, String safa, String phe) {
+        return Food.builder()
+                .id(id)
+                .name(name)
+                .nameNormalized(StringNormalizer.normalize(name))
+                .kiloJoules(new BigDecimal(kiloJoules))
+                .proteins(new BigDecimal(proteins))
+                .carbohydrates(new BigDecimal(carbohydrates))
+                .sugar(new BigDecimal(sugar))
+                .fat(new BigDecimal(fat))
+                .safa(new BigDecimal(safa))
+                .phe(new BigDecimal(phe))
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.model.FoodNameView;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.BDDMockito.given;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class FoodSearchIndexTest {
+
+    @Mock
+    private FoodRepository foodRepository;
+
+    private FoodSearchIndex foodSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(foodRepository.findAllFoodNames()).willReturn(List.of(
+                nameView(1L, "Pineapple"),
+                nameView(2L, "Apple"),
+                nameView(3L, "Apple pie"),
+                nameView(4L, "Banana")));
+        foodSearchIndex = new FoodSearchIndex(foodRepository);
+        foodSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("JUnit test for index search ranking prefix matches first")
+    void givenQuery_whenSearch_thenReturnsRankedIds() {
+        assertThat(foodSearchIndex.isReady()).isTrue();
+        assertThat(foodSearchIndex.search("APPLE")).containsExactly(2L, 3L, 1L);
+        assertThat(foodSearchIndex.search("na")).containsExactly(4L);
+        assertThat(foodSearchIndex.search("kiwi")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for one and two character queries answered from their own postings")
+    void givenShortQuery_whenSearch_thenReturnsRankedIds() {
+        assertThat(foodSearchIndex.search("p")).containsExactly(1L, 2L, 3L);
+        assertThat(foodSearchIndex.search("AP")).containsExactly(2L, 3L, 1L);
+        assertThat(foodSearchIndex.search("pi")).containsExactly(1L, 3L);
+        assertThat(foodSearchIndex.search("b")).containsExactly(4L);
+        assertThat(foodSearchIndex.search("x")).isEmpty();
+
+        foodSearchIndex.put(5L, "Pear");
+        foodSearchIndex.remove(4L);
+
+        assertThat(foodSearchIndex.search("pe")).containsExactly(5L);
+        assertThat(foodSearchIndex.search("b")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for index updates on put and remove")
+    void givenUpdates_whenSearch_thenReflectsChanges() {
+        foodSearchIndex.put(4L, "Green apple");
+        foodSearchIndex.remove(1L);
+
+        assertThat(foodSearchIndex.search("apple")).containsExactly(2L, 3L, 4L);
+        assertThat(foodSearchIndex.search("banana")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for index changes in a transaction applied only on commit")
+    void givenChangesInTransaction_whenCommitted_thenAppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            foodSearchIndex.put(5L, "Kiwi");
+            foodSearchIndex.remove(4L);
+
+            assertThat(foodSearchIndex.search("kiwi")).containsExactly(5L);
+            assertThat(foodSearchIndex.search("banana")).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(foodSearchIndex.search("kiwi")).containsExactly(5L);
+        assertThat(foodSearchIndex.search("banana")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for index changes in a transaction dropped on rollback")
+    void givenChangesInTransaction_whenRolledBack_thenIndexIsUnchanged() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            foodSearchIndex.put(5L, "Kiwi");
+            foodSearchIndex.remove(4L);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+        assertThat(foodSearchIndex.search("kiwi")).isEmpty();
+        assertThat(foodSearchIndex.search("banana")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("JUnit test for index changes made during a rebuild kept in the rebuilt index")
+    void givenChangesDuringRebuild_whenRebuilt_thenChangesAreReplayed() {
+        given(foodRepository.findAllFoodNames()).willAnswer(invocation -> {
+            foodSearchIndex.put(5L, "Kiwi");
+            foodSearchIndex.remove(2L);
+            return List.of(nameView(1L, "Pineapple"), nameView(2L, "Apple"), nameView(4L, "Banana"));
+        });
+
+        foodSearchIndex.rebuild();
+
+        assertThat(foodSearchIndex.search("kiwi")).containsExactly(5L);
+        assertThat(foodSearchIndex.search("apple")).containsExactly(1L);
+        assertThat(foodSearchIndex.search("banana")).containsExactly(4L);
+    }
+
+    private static FoodNameView nameView(Long id, String name) {
+        return new FoodNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -21,12 +21,14 @@ import static org.mockito.BDDMockito.given;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +48,10 @@ class FoodServiceTest {
     private FoodServiceImpl foodService;
     @Mock
     private MealFoodService mealFoodService;
+    @Mock
+    private FoodSearchIndex foodSearchIndex;
+    @Spy
+    private FoodCatalogCache foodCatalogCache = new FoodCatalogCache(100, Duration.ofMinutes(10));
 
     private Portion portion1;
     private Portion portion100;
@@ -92,19 +98,19 @@ class FoodServiceTest {
     @DisplayName("JUNit test for findById operation - positive case")
     void givenFoodId_whenGetFoodById_thenReturnFood() {
         Long id = food.getId();
-        given(foodRepository.findById(id)).willReturn(Optional.ofNullable(food));
+        given(foodRepository.findWithPortionsById(id)).willReturn(Optional.ofNullable(food));
 
         Food returnedFood = foodService.getFoodById(id);
 
         assertThat(returnedFood).isEqualTo(food);
-        verify(foodRepository, times(1)).findById(id);
+        verify(foodRepository, times(1)).findWithPortionsById(id);
     }
 
     @Test
     @DisplayName("JUNit test for findById operation - negative case")
     void givenNonExistingFoodId_whenGetFoodById_thenThrowException() {
         Long id = food.getId() + 1;
-        given(foodRepository.findById(id)).willReturn(Optional.empty());
+        given(foodRepository.findWithPortionsById(id)).willReturn(Optional.empty());
 
         RecordNotFoundException exception = assertThrows(RecordNotFoundException.class, () -> foodService.getFoodById(id));
         assertThat(exception.getMessage()).isEqualTo("Food record with id " + id + " does not exist!");
@@ -112,7 +118,7 @@ class FoodServiceTest {
 //        assertThatThrownBy(() -> foodService.getFoodById(id))
 //                .isInstanceOf(RecordNotFoundException.class)
 //                .hasMessage("Food record with id " + id + " does not exist!");
-        verify(foodRepository, times(1)).findById(id);
+        verify(foodRepository, times(1)).findWithPortionsById(id);
     }
 
     @Test
@@ -202,11 +208,11 @@ class FoodServiceTest {
         portionsBanana.add(portion100);
         banana.setPortions(portionsBanana);
 
-        given(foodRepository.findAll()).willReturn(List.of(food, kiwi, banana));
+        given(foodRepository.findAllWithPortions()).willReturn(List.of(food, kiwi, banana));
 
         List<Food> foodList = foodService.fetchAllFoods();
 
-        verify(foodRepository, times(1)).findAll();
+        verify(foodRepository, times(1)).findAllWithPortions();
         assertThat(foodList).isNotNull();
         assertThat(foodList).hasSize(3);
         assertThat(foodList).containsExactly(food, kiwi, banana);
@@ -293,13 +299,58 @@ class FoodServiceTest {
 
         Long foodId = food.getId();
 
-        given(foodRepository.findById(Mockito.anyLong())).willReturn(Optional.ofNullable(food));
+        given(foodRepository.findWithPortionsById(Mockito.anyLong())).willReturn(Optional.ofNullable(food));
 
         FoodDto returnedFoodDto = foodService.fetchFoodDtoById(foodId);
 
         assertThat(returnedFoodDto).isNotNull();
         assertThat(returnedFoodDto).isEqualTo(foodDto);
-        verify(foodRepository, times(1)).findById(foodId);
+        verify(foodRepository, times(1)).findWithPortionsById(foodId);
+    }
+
+    @Test
+    @DisplayName("JUnit test for fetch FoodDto by id served from the catalog cache")
+    void givenCachedFood_whenFetchFoodDtoByIdTwice_thenLoadsOnce() {
+        given(foodRepository.findWithPortionsById(food.getId())).willReturn(Optional.of(food));
+
+        FoodDto first = foodService.fetchFoodDtoById(food.getId());
+        FoodDto second = foodService.fetchFoodDtoById(food.getId());
+
+        assertThat(second).isSameAs(first);
+        assertThat(foodCatalogCache.stats().getHits()).isEqualTo(1);
+        assertThat(foodCatalogCache.stats().getMisses()).isEqualTo(1);
+        verify(foodRepository, times(1)).findWithPortionsById(food.getId());
+    }
+
+    @Test
+    @DisplayName("JUnit test for update Food evicting the catalog cache entry")
+    void givenCachedFood_whenUpdateFood_thenNextFetchReloads() {
+        given(foodRepository.findWithPortionsById(food.getId())).willReturn(Optional.of(food));
+        given(foodRepository.findById(food.getId())).willReturn(Optional.of(food));
+        given(foodRepository.save(any(Food.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        foodService.fetchFoodDtoById(food.getId());
+        FoodDto changed = FoodDto.fromEntity(food);
+        changed.setName("Green apple");
+        foodService.updateFood(changed);
+        FoodDto reloaded = foodService.fetchFoodDtoById(food.getId());
+
+        assertThat(reloaded.getName()).isEqualTo("Green apple");
+        verify(foodRepository, times(2)).findWithPortionsById(food.getId());
+    }
+
+    @Test
+    @DisplayName("JUnit test for food snapshot built from the catalog cache")
+    void givenFood_whenGetFoodSnapshotById_thenReturnsDetachedCopyWithPortions() {
+        given(foodRepository.findWithPortionsById(food.getId())).willReturn(Optional.of(food));
+
+        Food snapshot = foodService.getFoodSnapshotById(food.getId());
+
+        assertThat(snapshot).isNotSameAs(food);
+        assertThat(snapshot.getName()).isEqualTo("Apple");
+        assertThat(snapshot.getKiloJoules()).isEqualTo(food.getKiloJoules());
+        assertThat(snapshot.getPortions()).extracting(Portion::getPortionName)
+                .containsExactlyElementsOf(food.getPortions().stream().map(Portion::getPortionName).toList());
     }
 
     @Test
@@ -467,13 +518,41 @@ class FoodServiceTest {
         Page<Food> foodPage = new PageImpl<>(List.of(mango));
         String query = "man";
 
-        given(foodRepository.findAllByNameContainsIgnoreCase(query, pageable)).willReturn(foodPage);
+        given(foodRepository.findAllByNameNormalizedContaining(query, pageable)).willReturn(foodPage);
 
         Page<Food> result = foodService.searchFood(query, pageable);
 
         assertThat(result).isNotEmpty();
         assertThat(result).hasSize(1);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Mango");
-        verify(foodRepository, times(1)).findAllByNameContainsIgnoreCase(query, pageable);
+        verify(foodRepository, times(1)).findAllByNameNormalizedContaining(query, pageable);
+    }
+
+    @Test
+    @DisplayName("JUNit test for search Food served from the search index - positive case")
+    void givenReadyIndex_whenSearchFood_thenReturnsPageInIndexOrder() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        given(foodSearchIndex.isReady()).willReturn(true);
+        given(foodSearchIndex.search("ap")).willReturn(List.of(2L, 4L));
+        given(foodRepository.findAllById(List.of(2L))).willReturn(List.of(food));
+
+        Page<Food> result = foodService.searchFood("ap", pageable);
+
+        assertThat(result.getContent()).containsExactly(food);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(foodRepository, Mockito.never()).findAllByNameNormalizedContaining(any(), any());
+    }
+
+    @Test
+    @DisplayName("JUNit test for prefix search Food with diacritics folded - positive case")
+    void givenAccentedPrefix_whenSearchFoodByPrefix_thenQueriesNormalizedPrefix() {
+        Pageable pageable = PageRequest.of(0, 25);
+        given(foodRepository.findAllByNameNormalizedStartingWith("riz", pageable)).willReturn(new PageImpl<>(List.of(food)));
+
+        Page<Food> result = foodService.searchFoodByPrefix("Říz", pageable);
+
+        assertThat(result).hasSize(1);
+        verify(foodRepository, times(1)).findAllByNameNormalizedStartingWith("riz", pageable);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.exception.IdempotencyKeyInProgressException;
+import com.pc.kilojoulesrest.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyCacheTest {
+
+    private IdempotencyCache idempotencyCache;
+    private AtomicInteger writes;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyCache = new IdempotencyCache(Duration.ofMinutes(10), 100, Duration.ofMillis(50));
+        writes = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("JUnit test for retry with the same idempotency key replayed without writing again")
+    void givenSameKeyAndRequest_whenExecuteTwice_thenWritesOnceAndReplays() {
+        ResponseEntity<?> first = idempotencyCache.execute(1L, "key-1", "request", this::created);
+        ResponseEntity<?> retry = idempotencyCache.execute(1L, "key-1", "request", this::created);
+
+        assertThat(writes).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().containsKey(IdempotencyCache.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("JUnit test for idempotency keys scoped per user and absent keys not remembered")
+    void givenOtherUserOrNoKey_whenExecute_thenWritesEveryTime() {
+        idempotencyCache.execute(1L, "key-1", "request", this::created);
+        idempotencyCache.execute(2L, "key-1", "request", this::created);
+        idempotencyCache.execute(1L, null, "request", this::created);
+        idempotencyCache.execute(1L, null, "request", this::created);
+
+        assertThat(writes).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("JUnit test for idempotency key reused with a different request")
+    void givenSameKeyAndDifferentRequest_whenExecute_thenThrowsException() {
+        idempotencyCache.execute(1L, "key-1", "request", this::created);
+
+        assertThatThrownBy(() -> idempotencyCache.execute(1L, "key-1", "other request", this::created))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("JUnit test for failed write not remembered under its idempotency key")
+    void givenFailedWrite_whenRetried_thenWritesAgain() {
+        assertThatThrownBy(() -> idempotencyCache.execute(1L, "key-1", "request", () -> {
+            writes.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<?> retry = idempotencyCache.execute(1L, "key-1", "request", this::created);
+
+        assertThat(writes).hasValue(2);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("JUnit test for retry timing out while the first write with its idempotency key is still running")
+    void givenWriteStillRunning_whenRetried_thenThrowsInProgressException() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyCache.execute(1L, "key-1", "request", () -> {
+                    writeStarted.countDown();
+                    try {
+                        releaseWrite.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return created();
+                }));
+        assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> idempotencyCache.execute(1L, "key-1", "request", this::created))
+                .isInstanceOf(IdempotencyKeyInProgressException.class)
+                .satisfies(e -> assertThat(((IdempotencyKeyInProgressException) e).getRetryAfter()).isEqualTo(Duration.ofMillis(50)));
+
+        releaseWrite.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(writes).hasValue(1);
+    }
+
+    private ResponseEntity<?> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("journal " + writes.incrementAndGet());
+    }
+}
@@ -0,0 +1,101 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.model.JournalBatchEntryDTO;
+import com.pc.kilojoulesrest.model.JournalBatchResultDTO;
+import com.pc.kilojoulesrest.repository.FoodRepository;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import com.pc.kilojoulesrest.repository.MealRepository;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JournalBatchServiceTest {
+
+    @Mock
+    private FoodRepository foodRepository;
+    @Mock
+    private MealRepository mealRepository;
+    @Mock
+    private JournalRepository journalRepository;
+    @Mock
+    private JournalFoodService journalFoodService;
+    @Mock
+    private JournalMealService journalMealService;
+    @InjectMocks
+    private JournalBatchServiceImpl journalBatchService;
+
+    private User user;
+    private Food food;
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("batchUser").build();
+        food = Food.builder()
+                .id(2L)
+                .name("Apple")
+                .quantity(ONE_HUNDRED)
+                .kiloJoules(BigDecimal.TEN)
+                .proteins(BigDecimal.ONE)
+                .carbohydrates(BigDecimal.ONE)
+                .fat(BigDecimal.ONE)
+                .build();
+        meal = Meal.builder().id(3L).mealName("Breakfast").user(user).build();
+    }
+
+    @Test
+    @DisplayName("JUnit test for batch journal write with valid and rejected entries")
+    void givenMixedEntries_whenAddEntriesToJournal_thenReturnsResultPerEntry() {
+        List<JournalBatchEntryDTO> entries = List.of(
+                JournalBatchEntryDTO.builder().foodId(2L).consumedAt("2024-02-01").mealType("BREAKFAST").quantity(new BigDecimal("150")).build(),
+                JournalBatchEntryDTO.builder().foodId(99L).consumedAt("2024-02-01").mealType("LUNCH").quantity(ONE_HUNDRED).build(),
+                JournalBatchEntryDTO.builder().mealId(3L).consumedAt("2024-02-02").mealType("DINNER").build(),
+                JournalBatchEntryDTO.builder().foodId(2L).consumedAt("2024-02-02").mealType("BRUNCH").quantity(ONE_HUNDRED).build(),
+                JournalBatchEntryDTO.builder().foodId(2L).mealId(3L).consumedAt("2024-02-02").mealType("LUNCH").build());
+        JournalFood journalFood = JournalFood.builder().name("Apple").build();
+        JournalMeal journalMeal = JournalMeal.builder().mealName("Breakfast").build();
+        given(foodRepository.findAllById(any())).willReturn(List.of(food));
+        given(mealRepository.findAllByIdInAndUser(any(), eq(user))).willReturn(List.of(meal));
+        given(journalFoodService.createJournalFood(food, new BigDecimal("150"), "Apple")).willReturn(journalFood);
+        given(journalMealService.convertMealToJournalMeal(meal)).willReturn(journalMeal);
+        given(journalRepository.saveAll(anyIterable())).willAnswer(invocation -> {
+            List<Journal> saved = new ArrayList<>();
+            long id = 10;
+            for (Object journal : (Iterable<?>) invocation.getArgument(0)) {
+                ((Journal) journal).setId(id++);
+                saved.add((Journal) journal);
+            }
+            return saved;
+        });
+
+        List<JournalBatchResultDTO> results = journalBatchService.addEntriesToJournal(entries, user);
+
+        verify(foodRepository, times(1)).findAllById(any());
+        verify(journalRepository, times(1)).saveAll(anyIterable());
+        assertThat(results).extracting(JournalBatchResultDTO::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).extracting(JournalBatchResultDTO::getStatus).containsExactly(201, 404, 201, 400, 400);
+        assertThat(results).extracting(JournalBatchResultDTO::getJournalId).containsExactly(10L, null, 11L, null, null);
+        assertThat(results.get(3).getError()).startsWith("Invalid meal type: BRUNCH");
+    }
+}
@@ -0,0 +1,56 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.MealType;
+import com.pc.kilojoulesrest.model.JournalEntryDTO;
+import com.pc.kilojoulesrest.model.JournalEntryWithTotalsDto;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.BDDMockito.given;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class JournalDayServiceTest {
+
+    @Mock
+    private JournalRepository journalRepository;
+    @InjectMocks
+    private JournalDayServiceImpl journalDayService;
+
+    @Test
+    @DisplayName("JUnit test for day totals and totals per meal type")
+    void givenEntries_whenFetchJournalDay_thenSumsDayAndMealTypeTotals() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        JournalEntryDTO apple = new JournalEntryDTO(1L, 10L, null, MealType.BREAKFAST, "Apple",
+                new BigDecimal("100"), new BigDecimal("200"), BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ONE);
+        JournalEntryDTO yogurt = new JournalEntryDTO(2L, 11L, null, MealType.BREAKFAST, "Yogurt",
+                new BigDecimal("150"), new BigDecimal("300"), BigDecimal.TEN, BigDecimal.TEN, BigDecimal.ZERO, new BigDecimal("5"));
+        JournalEntryDTO lunch = new JournalEntryDTO(3L, null, 20L, MealType.LUNCH, "Lunch",
+                new BigDecimal("400"), new BigDecimal("1500"), new BigDecimal("30"), new BigDecimal("50"), new BigDecimal("4"), new BigDecimal("20"));
+        given(journalRepository.findDayEntriesByUserId(1L, date)).willReturn(List.of(apple, yogurt, lunch));
+
+        JournalEntryWithTotalsDto day = journalDayService.fetchJournalDay(1L, date);
+
+        assertThat(day.getDate()).isEqualTo(date);
+        assertThat(day.getEntries()).hasSize(3);
+        assertThat(day.getTotalKiloJoules()).isEqualByComparingTo("2000");
+        assertThat(day.getTotalFat()).isEqualByComparingTo("26");
+        assertThat(day.getMealTypeTotals()).hasSize(2);
+        assertThat(day.getMealTypeTotals().get(0).getMealType()).isEqualTo(MealType.BREAKFAST);
+        assertThat(day.getMealTypeTotals().get(0).getTotalQuantity()).isEqualByComparingTo("250");
+        assertThat(day.getMealTypeTotals().get(1).getMealType()).isEqualTo(MealType.LUNCH);
+        assertThat(day.getMealTypeTotals().get(1).getTotalProteins()).isEqualByComparingTo("30");
+    }
+}
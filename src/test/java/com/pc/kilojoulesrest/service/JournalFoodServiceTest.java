@@ -0,0 +1,63 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.entity.JournalFood;
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.entity.PortionSet;
+import com.pc.kilojoulesrest.repository.JournalFoodRepository;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JournalFoodServiceTest {
+
+    @Mock
+    private JournalFoodRepository journalFoodRepository;
+    @Mock
+    private PortionSetService portionSetService;
+    @InjectMocks
+    private JournalFoodServiceImpl journalFoodService;
+
+    @Test
+    @DisplayName("JUnit test for journal food saved once with a shared portion set")
+    void givenFoodWithPortions_whenCreateJournalFood_thenSavedOnceWithPortionSet() {
+        Food food = Food.builder()
+                .id(1L)
+                .name("Apple")
+                .quantity(ONE_HUNDRED)
+                .kiloJoules(new BigDecimal("200"))
+                .proteins(BigDecimal.ONE)
+                .carbohydrates(BigDecimal.TEN)
+                .fat(BigDecimal.ONE)
+                .build();
+        food.setPortions(List.of(
+                Portion.builder().id(1L).portionName("1 g").portionSize(BigDecimal.ONE).food(food).build(),
+                Portion.builder().id(2L).portionName("100 g").portionSize(ONE_HUNDRED).food(food).build(),
+                Portion.builder().id(3L).portionName("piece").portionSize(new BigDecimal("150")).food(food).build()));
+        PortionSet portionSet = PortionSet.builder().hash("hash").build();
+        given(portionSetService.resolvePortionSet(food.getPortions())).willReturn(portionSet);
+        given(journalFoodRepository.save(any(JournalFood.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        JournalFood journalFood = journalFoodService.createJournalFood(food, new BigDecimal("150"), "Apple");
+
+        verify(journalFoodRepository, times(1)).save(any(JournalFood.class));
+        assertThat(journalFood.getKiloJoules()).isEqualByComparingTo("300");
+        assertThat(journalFood.getPortionSet()).isSameAs(portionSet);
+    }
+}
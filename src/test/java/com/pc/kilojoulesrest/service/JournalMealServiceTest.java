@@ -0,0 +1,89 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.*;
+import com.pc.kilojoulesrest.repository.JournalMealRepository;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static com.pc.kilojoulesrest.constant.Constant.ONE_HUNDRED;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JournalMealServiceTest {
+
+    @Mock
+    private JournalMealRepository journalMealRepository;
+    @Mock
+    private JournalService journalService;
+    @Mock
+    private PortionSetService portionSetService;
+    @InjectMocks
+    private JournalMealServiceImpl journalMealService;
+
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        meal = Meal.builder()
+                .id(1L)
+                .mealName("Breakfast")
+                .build();
+        Set<MealFood> mealFoods = new HashSet<>();
+        for (long i = 1; i <= 3; i++) {
+            Food food = Food.builder()
+                    .id(i)
+                    .name("Food " + i)
+                    .quantity(ONE_HUNDRED)
+                    .kiloJoules(BigDecimal.TEN)
+                    .proteins(BigDecimal.ONE)
+                    .carbohydrates(BigDecimal.ONE)
+                    .fat(BigDecimal.ONE)
+                    .build();
+            food.setPortions(List.of(
+                    Portion.builder().id(i * 10).portionName("1 g").portionSize(BigDecimal.ONE).food(food).build(),
+                    Portion.builder().id(i * 10 + 1).portionName("100 g").portionSize(ONE_HUNDRED).food(food).build()));
+            mealFoods.add(MealFood.builder()
+                    .id(i)
+                    .meal(meal)
+                    .food(food)
+                    .quantity(new BigDecimal("200"))
+                    .build());
+        }
+        meal.setMealFoods(mealFoods);
+    }
+
+    @Test
+    @DisplayName("JUnit test for meal snapshot built in memory and saved once")
+    void givenMealWithFoods_whenConvertMealToJournalMeal_thenGraphIsSavedOnce() {
+        PortionSet portionSet = PortionSet.builder().hash("hash").build();
+        given(portionSetService.resolvePortionSet(any())).willReturn(portionSet);
+        given(journalMealRepository.save(any(JournalMeal.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        JournalMeal journalMeal = journalMealService.convertMealToJournalMeal(meal);
+
+        verify(journalMealRepository, times(1)).save(any(JournalMeal.class));
+        assertThat(journalMeal.getMealName()).isEqualTo("Breakfast");
+        assertThat(journalMeal.getJournalMealFoods()).hasSize(3);
+        assertThat(journalMeal.getJournalMealFoods()).allSatisfy(jmf -> {
+            assertThat(jmf.getJournalMeal()).isSameAs(journalMeal);
+            assertThat(jmf.getKiloJoules()).isEqualByComparingTo("20");
+            assertThat(jmf.getPortionSet()).isSameAs(portionSet);
+        });
+        assertThat(journalMeal.getQuantity()).isEqualByComparingTo("600");
+        assertThat(journalMeal.getKiloJoules()).isEqualByComparingTo("60");
+    }
+}
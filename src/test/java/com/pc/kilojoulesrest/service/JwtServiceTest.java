@@ -0,0 +1,64 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.config.UserInfoUserDetails;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private JwtService jwtService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(7L)
+                .username("jwtUser")
+                .password("jwtPassword")
+                .roles("ROLE_USER,ROLE_ADMIN")
+                .build();
+    }
+
+    @Test
+    @DisplayName("JUnit test for principal built from token claims")
+    void givenToken_whenExtractUserDetails_thenReturnsPrincipalFromClaims() {
+        given(userRepository.findByUsername("jwtUser")).willReturn(Optional.of(user));
+        String token = jwtService.generateToken("jwtUser");
+
+        UserInfoUserDetails userDetails = jwtService.extractUserDetails(jwtService.extractAllClaims(token));
+
+        assertThat(userDetails.getUserId()).isEqualTo(7L);
+        assertThat(userDetails.getUsername()).isEqualTo("jwtUser");
+        assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("JUnit test for token validation against already parsed claims")
+    void givenParsedClaims_whenValidateToken_thenMatchesOnlyTheSubject() {
+        given(userRepository.findByUsername("jwtUser")).willReturn(Optional.of(user));
+        Claims claims = jwtService.extractAllClaims(jwtService.generateToken("jwtUser"));
+
+        assertThat(jwtService.validateToken(claims, new UserInfoUserDetails(user))).isTrue();
+        assertThat(jwtService.validateToken(claims, new UserInfoUserDetails(8L, "otherUser", "ROLE_USER"))).isFalse();
+    }
+}
@@ -340,7 +340,7 @@ class MealServiceTest {
                 .user(user)
                 .build();
 
-        given(foodService.getFoodById(any(Long.class))).willReturn(food);
+        given(foodService.getFoodReference(any(Long.class))).willReturn(food);
         given(mealFoodService.saveMealFood(any(MealFood.class))).willAnswer(invocation -> (MealFood) invocation.getArgument(0));
         given(mealRepository.save(any(Meal.class))).willAnswer(invocation -> (Meal) invocation.getArgument(0));
 
@@ -403,7 +403,7 @@ class MealServiceTest {
         List<Long> foods = List.of(3L);
 
         given(mealRepository.findById(mealId)).willReturn(Optional.ofNullable(meal));
-        given(foodService.getFoodById(any(Long.class))).willReturn(kiwi);
+        given(foodService.getFoodReference(any(Long.class))).willReturn(kiwi);
         given(mealFoodService.saveMealFood(any(MealFood.class))).willAnswer(invocation -> (MealFood) invocation.getArgument(0));
         given(mealRepository.save(any(Meal.class))).willAnswer(invocation -> (Meal) invocation.getArgument(0));
 
@@ -0,0 +1,95 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Food;
+import com.pc.kilojoulesrest.entity.Portion;
+import com.pc.kilojoulesrest.entity.PortionSet;
+import com.pc.kilojoulesrest.repository.PortionSetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PortionSetServiceTest {
+
+    @Mock
+    private PortionSetRepository portionSetRepository;
+
+    private PortionSetServiceImpl portionSetService;
+
+    @BeforeEach
+    void setUp() {
+        portionSetService = new PortionSetServiceImpl(portionSetRepository, 100);
+    }
+
+    @Test
+    @DisplayName("JUnit test for portion set hash independent of order and scale")
+    void givenSamePortionsInOtherOrder_whenCalculateHash_thenHashesMatch() {
+        String hash = portionSetService.calculateHash(List.of(portion("1 g", "1"), portion("100 g", "100")));
+        String reordered = portionSetService.calculateHash(List.of(portion("100 g", "100.00"), portion("1 g", "1.0")));
+        String other = portionSetService.calculateHash(List.of(portion("1 g", "1"), portion("100 g", "150")));
+
+        assertThat(hash).hasSize(64).isEqualTo(reordered);
+        assertThat(other).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("JUnit test for existing portion set resolved without writing it again")
+    void givenExistingPortionSet_whenResolvePortionSetTwice_thenCheckedOnceAndNotWritten() {
+        List<Portion> portions = List.of(portion("1 g", "1"), portion("100 g", "100"));
+        String hash = portionSetService.calculateHash(portions);
+        PortionSet portionSet = PortionSet.builder().hash(hash).build();
+        given(portionSetRepository.existsById(hash)).willReturn(true);
+        given(portionSetRepository.getReferenceById(hash)).willReturn(portionSet);
+
+        PortionSet first = portionSetService.resolvePortionSet(portions);
+        PortionSet second = portionSetService.resolvePortionSet(portions);
+
+        assertThat(first).isSameAs(portionSet);
+        assertThat(second).isSameAs(portionSet);
+        verify(portionSetRepository, times(1)).existsById(hash);
+        verify(portionSetRepository, never()).insertIgnore(anyString());
+        verify(portionSetRepository, never()).insertPortionIgnore(anyString(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("JUnit test for new portion set written in the canonical order it is hashed in")
+    void givenNewPortionSet_whenResolvePortionSet_thenPortionsAreInsertedInCanonicalOrder() {
+        List<Portion> portions = List.of(portion("100 g", "100"), portion("1 g", "1"));
+        String hash = portionSetService.calculateHash(portions);
+        given(portionSetRepository.existsById(hash)).willReturn(false);
+        given(portionSetRepository.insertIgnore(hash)).willReturn(1);
+
+        portionSetService.resolvePortionSet(portions);
+
+        InOrder inOrder = inOrder(portionSetRepository);
+        inOrder.verify(portionSetRepository).insertIgnore(hash);
+        inOrder.verify(portionSetRepository).insertPortionIgnore(hash, 0, "1 g", new BigDecimal("1"));
+        inOrder.verify(portionSetRepository).insertPortionIgnore(hash, 1, "100 g", new BigDecimal("100"));
+        inOrder.verify(portionSetRepository).getReferenceById(hash);
+    }
+
+    private static Portion portion(String name, String size) {
+        return Portion.builder()
+                .portionName(name)
+                .portionSize(new BigDecimal(size))
+                .food(Food.builder().id(1L).name("Apple").build())
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.pc.kilojoulesrest.service;
+
+import com.pc.kilojoulesrest.entity.Nutrient;
+import com.pc.kilojoulesrest.entity.User;
+import com.pc.kilojoulesrest.model.JournalTotalsDTO;
+import com.pc.kilojoulesrest.model.StatisticDashboardDTO;
+import com.pc.kilojoulesrest.model.TopTenDTO;
+import com.pc.kilojoulesrest.repository.JournalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticServiceTest {
+
+    @Mock
+    private JournalRepository journalRepository;
+    @Mock
+    private DailyNutritionSummaryService dailyNutritionSummaryService;
+    @Mock
+    private JournalVersionService journalVersionService;
+
+    private ThreadPoolTaskExecutor executor;
+    private StatisticServiceImpl statisticService;
+    private User user;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.initialize();
+        statisticService = new StatisticServiceImpl(journalRepository, dailyNutritionSummaryService, journalVersionService, executor, 100);
+        user = User.builder().id(1L).username("statisticUser").build();
+        endDate = LocalDate.of(2024, 2, 7);
+        startDate = endDate.minusDays(6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("JUnit test for dashboard assembled from parallel queries")
+    void givenJournal_whenFetchDashboard_thenAllSectionsAreFilled() {
+        JournalTotalsDTO totals = new JournalTotalsDTO();
+        totals.setTotalKiloJoules(new BigDecimal("7000"));
+        given(dailyNutritionSummaryService.sumTotalsByPeriod(user, startDate, endDate)).willReturn(totals);
+        for (Nutrient nutrient : List.of(Nutrient.KILOJOULES, Nutrient.PROTEINS, Nutrient.CARBOHYDRATES, Nutrient.FIBER, Nutrient.FAT)) {
+            TopTenDTO top = new TopTenDTO();
+            top.setName(nutrient.name());
+            given(journalRepository.findTopByNutrient(user, startDate, endDate, nutrient, 10)).willReturn(List.of(top));
+        }
+
+        StatisticDashboardDTO dashboard = statisticService.fetchDashboard(user, startDate, endDate);
+
+        assertThat(dashboard.getTotals().getTotalKiloJoules()).isEqualByComparingTo("7000");
+        assertThat(dashboard.getTotals().getAvgKiloJoules()).isEqualByComparingTo("1000");
+        assertThat(dashboard.getTopKiloJoules()).extracting(TopTenDTO::getName).containsExactly("KILOJOULES");
+        assertThat(dashboard.getTopProteins()).extracting(TopTenDTO::getName).containsExactly("PROTEINS");
+        assertThat(dashboard.getTopCarbohydrates()).extracting(TopTenDTO::getName).containsExactly("CARBOHYDRATES");
+        assertThat(dashboard.getTopFiber()).extracting(TopTenDTO::getName).containsExactly("FIBER");
+        assertThat(dashboard.getTopFat()).extracting(TopTenDTO::getName).containsExactly("FAT");
+    }
+
+    @Test
+    @DisplayName("JUnit test for dashboard rethrowing a failed query")
+    void givenFailingQuery_whenFetchDashboard_thenOriginalExceptionIsThrown() {
+        given(dailyNutritionSummaryService.sumTotalsByPeriod(user, startDate, endDate)).willReturn(new JournalTotalsDTO());
+        given(journalRepository.findTopByNutrient(eq(user), eq(startDate), eq(endDate), any(Nutrient.class), eq(10))).willReturn(List.of());
+        given(journalRepository.findTopByNutrient(user, startDate, endDate, Nutrient.FAT, 10))
+                .willThrow(new DataAccessResourceFailureException("connection lost"));
+
+        assertThatThrownBy(() -> statisticService.fetchDashboard(user, startDate, endDate))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessage("connection lost");
+    }
+
+    @Test
+    @DisplayName("JUnit test for ETag served from the journal version while nothing was written")
+    void givenUnchangedJournalVersion_whenCalculateETag_thenRangeIsNotReadAgain() {
+        given(journalVersionService.fetchJournalVersion(1L)).willReturn(3L);
+        given(dailyNutritionSummaryService.fetchRangeVersion(1L, startDate, endDate)).willReturn(12L);
+
+        String first = statisticService.calculateETag(1L, startDate, endDate);
+        String unchanged = statisticService.calculateETag(1L, startDate, endDate);
+
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(first).startsWith("\"").endsWith("\"");
+        verify(dailyNutritionSummaryService, times(1)).fetchRangeVersion(1L, startDate, endDate);
+    }
+
+    @Test
+    @DisplayName("JUnit test for ETag kept after a write outside the range and changed after a write inside it")
+    void givenJournalVersionBumped_whenCalculateETag_thenTagFollowsTheRange() {
+        given(journalVersionService.fetchJournalVersion(1L)).willReturn(3L, 4L, 5L);
+        given(dailyNutritionSummaryService.fetchRangeVersion(1L, startDate, endDate)).willReturn(12L, 12L, 13L);
+
+        String first = statisticService.calculateETag(1L, startDate, endDate);
+        String writeElsewhere = statisticService.calculateETag(1L, startDate, endDate);
+        String writeInRange = statisticService.calculateETag(1L, startDate, endDate);
+
+        assertThat(writeElsewhere).isEqualTo(first);
+        assertThat(writeInRange).isNotEqualTo(first);
+    }
+}
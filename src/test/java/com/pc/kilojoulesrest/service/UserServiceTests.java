@@ -30,6 +30,8 @@ class UserServiceTests {
     private UserServiceImpl userService;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
     private User user;
 
     @BeforeEach
@@ -51,6 +53,7 @@ class UserServiceTests {
 
         assertThat(savedUser).isNotNull();
         assertThat(savedUser).isEqualTo(user);
+        verify(userPrincipalCache, times(1)).evict("user1");
     }
 
     @Test
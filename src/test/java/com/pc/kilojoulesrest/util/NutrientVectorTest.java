@@ -0,0 +1,71 @@
+package com.pc.kilojoulesrest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+class NutrientVectorTest {
+
+    @Test
+    @DisplayName("JUnit test for sums keeping the scale of the inputs")
+    void givenValues_whenAdd_thenReturnsSumWithInputScale() {
+        NutrientVector vector = new NutrientVector()
+                .add(NutrientVector.KILOJOULES, new BigDecimal("10.25"))
+                .add(NutrientVector.KILOJOULES, new BigDecimal("4.75"))
+                .add(NutrientVector.QUANTITY, BigDecimal.valueOf(100))
+                .add(NutrientVector.QUANTITY, BigDecimal.TEN)
+                .subtract(NutrientVector.FAT, BigDecimal.ONE);
+
+        assertThat(vector.get(NutrientVector.KILOJOULES)).isEqualTo(new BigDecimal("15.00"));
+        assertThat(vector.get(NutrientVector.QUANTITY)).isEqualTo(BigDecimal.valueOf(110));
+        assertThat(vector.get(NutrientVector.FAT)).isEqualTo(BigDecimal.valueOf(-1));
+        assertThat(vector.get(NutrientVector.FIBER)).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("JUnit test for divide rounding half up like BigDecimal")
+    void givenValues_whenDivide_thenRoundsHalfUpAtFieldScale() {
+        NutrientVector vector = new NutrientVector()
+                .add(NutrientVector.PROTEINS, new BigDecimal("10.00"))
+                .add(NutrientVector.FAT, new BigDecimal("5"))
+                .divide(3);
+
+        assertThat(vector.get(NutrientVector.PROTEINS)).isEqualTo(new BigDecimal("10.00").divide(BigDecimal.valueOf(3), RoundingMode.HALF_UP));
+        assertThat(vector.get(NutrientVector.FAT)).isEqualTo(new BigDecimal("2"));
+    }
+
+    @Test
+    @DisplayName("JUnit test for scaling by a ratio")
+    void givenValues_whenScale_thenMultipliesByRatio() {
+        NutrientVector vector = new NutrientVector()
+                .add(NutrientVector.KILOJOULES, new BigDecimal("250.00"))
+                .scale(30, 100);
+
+        assertThat(vector.getMicros(NutrientVector.KILOJOULES)).isEqualTo(75_000_000L);
+        assertThat(vector.get(NutrientVector.KILOJOULES)).isEqualTo(new BigDecimal("75.00"));
+    }
+
+    @Test
+    @DisplayName("JUnit test for four-decimal journal values summed exactly like BigDecimal")
+    void givenFourDecimalValues_whenAdd_thenMatchesBigDecimalSum() {
+        List<BigDecimal> per100g = List.of(new BigDecimal("123.45"), new BigDecimal("0.07"), new BigDecimal("987.65"), new BigDecimal("33.33"));
+        List<BigDecimal> quantities = List.of(new BigDecimal("37.55"), new BigDecimal("0.05"), new BigDecimal("12.34"), new BigDecimal("250.01"));
+        NutrientVector vector = new NutrientVector();
+        BigDecimal reference = BigDecimal.ZERO;
+        for (int i = 0; i < per100g.size(); i++) {
+            BigDecimal value = per100g.get(i).multiply(quantities.get(i)).divide(BigDecimal.valueOf(100), RoundingMode.HALF_UP);
+            vector.add(NutrientVector.KILOJOULES, value);
+            reference = reference.add(value);
+        }
+        vector.add(NutrientVector.KILOJOULES, new BigDecimal("0.0001"));
+        reference = reference.add(new BigDecimal("0.0001"));
+
+        assertThat(reference.scale()).isEqualTo(4);
+        assertThat(vector.get(NutrientVector.KILOJOULES)).isEqualTo(reference);
+    }
+}